@@ -0,0 +1,56 @@
+package benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collection;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+
+// Запуск JMH с обычными опциями командной строки (например, "TabulatedFunction -f 1 -wi 2")
+// и запись результатов в output/jmh_results.csv в формате остальных бенчмарков.
+// Дочерние JVM получают флаги родительской, поэтому запускать нужно так:
+// java --enable-preview --add-modules jdk.incubator.vector -jar target/benchmarks.jar
+@Slf4j
+public class JmhRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        String filePath = "output/jmh_results.csv";
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                // сообщения горячего пути не должны попадать в замер;
+                // jvmArgsAppend не занят, чтобы действовали значения из @Fork
+                .jvmArgsPrepend("-Dfunctions.quietHotPath=true")
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        new File(filePath).getParentFile().mkdirs();
+        try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
+            writer.println("Operation;Records;Time;Error;Unit;Implementation");
+            for (RunResult result : results) {
+                String benchmark = result.getParams().getBenchmark();
+                // класс.метод без пакета
+                String operation = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+                String records = result.getParams().getParam("size");
+                String implementation = result.getParams().getParam("implementation");
+                writer.println(operation + ";"
+                        + (records != null ? records : "") + ";"
+                        + String.format(Locale.ROOT, "%.3f", result.getPrimaryResult().getScore()) + ";"
+                        + String.format(Locale.ROOT, "%.3f", result.getPrimaryResult().getScoreError()) + ";"
+                        + result.getPrimaryResult().getScoreUnit() + ";"
+                        + (implementation != null ? implementation : ""));
+            }
+        } catch (IOException e) {
+            log.error("Ошибка при записи результатов в файл {}", filePath, e);
+        }
+        log.info("Результаты {} замеров записаны в {}", results.size(), filePath);
+    }
+}
@@ -0,0 +1,72 @@
+package concurrent;
+
+import functions.ArrayTabulatedFunction;
+import functions.SqrFunction;
+import functions.TabulatedFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Пропускная способность потокобезопасных обёрток при 1000 чтениях (apply) на одну запись (setY).
+// Число потоков задаётся опцией -t.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentReadBenchmark {
+    private static final int READS_PER_WRITE = 1000;
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"Synchronized", "Stamped", "CopyOnWrite"})
+    private String implementation;
+
+    private TabulatedFunction function;
+
+    @State(Scope.Thread)
+    public static class Operations {
+        private Random random;
+        private int counter;
+
+        @Setup
+        public void setUp(ThreadParams params) {
+            random = new Random(params.getThreadIndex());
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        TabulatedFunction delegate = new ArrayTabulatedFunction(new SqrFunction(), 0, size, size);
+        function = switch (implementation) {
+            case "Synchronized" -> new SynchronizedTabulatedFunction(delegate);
+            case "Stamped" -> new StampedTabulatedFunction(delegate);
+            default -> new CopyOnWriteTabulatedFunction(delegate);
+        };
+    }
+
+    @Benchmark
+    public double readMostly(Operations operations) {
+        if (++operations.counter % READS_PER_WRITE == 0) {
+            function.setY(operations.random.nextInt(size), operations.random.nextDouble());
+            return 0;
+        }
+        return function.apply(operations.random.nextDouble() * size);
+    }
+}
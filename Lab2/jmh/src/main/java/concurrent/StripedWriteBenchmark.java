@@ -0,0 +1,83 @@
+package concurrent;
+
+import functions.ArrayTabulatedFunction;
+import functions.UnitFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.TimeUnit;
+
+// Параллельное умножение Y: каждый поток проходит свой диапазон индексов.
+// Общий монитор, разделённые блокировки и CAS; число потоков задаётся опцией -t.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class StripedWriteBenchmark {
+    @Param({"65536"})
+    private int size;
+
+    @Param({"Monitor", "Striped", "CAS"})
+    private String implementation;
+
+    private ArrayTabulatedFunction function;
+    private StripedTabulatedFunction striped;
+
+    @State(Scope.Thread)
+    public static class Range {
+        private int from;
+        private int to;
+
+        @Setup
+        public void setUp(StripedWriteBenchmark benchmark, ThreadParams params) {
+            int perThread = benchmark.size / params.getThreadCount();
+            from = params.getThreadIndex() * perThread;
+            to = from + perThread;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        function = new ArrayTabulatedFunction(new UnitFunction(), 0, size, size);
+        striped = new StripedTabulatedFunction(function);
+    }
+
+    // значения удваиваются на каждом проходе, поэтому быстро уходят в бесконечность;
+    // на стоимость умножения и записи это не влияет
+    @Benchmark
+    public void multiply(Range range) {
+        switch (implementation) {
+            case "Monitor" -> {
+                for (int i = range.from; i < range.to; i++) {
+                    synchronized (function) {
+                        function.setY(i, 2 * function.getY(i));
+                    }
+                }
+            }
+            case "Striped" -> {
+                for (int i = range.from; i < range.to; i++) {
+                    striped.updateY(i, y -> 2 * y);
+                }
+            }
+            default -> {
+                for (int i = range.from; i < range.to; i++) {
+                    function.updateY(i, y -> 2 * y);
+                }
+            }
+        }
+    }
+}
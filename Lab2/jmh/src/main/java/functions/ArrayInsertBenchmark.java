@@ -0,0 +1,72 @@
+package functions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Серия из size вставок в случайные места: новые массивы на каждую точку
+// против вставки с запасом ёмкости. Объём выделенной памяти - с -prof gc.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ArrayInsertBenchmark {
+    @Param({"10000", "30000", "100000"})
+    private int size;
+
+    private double[] insertions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        insertions = new double[size];
+        for (int i = 0; i < size; i++) {
+            insertions[i] = random.nextDouble() * size;
+        }
+    }
+
+    @Benchmark
+    public double[][] copyPerInsert() {
+        double[][] columns = {new double[]{-1.0, size + 1.0}, new double[]{0.0, 0.0}};
+        for (double x : insertions) {
+            double[] xValues = columns[0];
+            double[] yValues = columns[1];
+            int insertIndex = 0;
+            while (insertIndex < xValues.length && xValues[insertIndex] < x) {
+                insertIndex++;
+            }
+            double[] newXValues = new double[xValues.length + 1];
+            double[] newYValues = new double[yValues.length + 1];
+            System.arraycopy(xValues, 0, newXValues, 0, insertIndex);
+            System.arraycopy(yValues, 0, newYValues, 0, insertIndex);
+            newXValues[insertIndex] = x;
+            newYValues[insertIndex] = x;
+            System.arraycopy(xValues, insertIndex, newXValues, insertIndex + 1, xValues.length - insertIndex);
+            System.arraycopy(yValues, insertIndex, newYValues, insertIndex + 1, yValues.length - insertIndex);
+            columns = new double[][]{newXValues, newYValues};
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public ArrayTabulatedFunction geometricGrowth() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{-1.0, size + 1.0}, new double[]{0.0, 0.0});
+        for (double x : insertions) {
+            function.insert(x, x);
+        }
+        return function;
+    }
+}
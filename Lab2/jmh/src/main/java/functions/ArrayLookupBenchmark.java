@@ -0,0 +1,78 @@
+package functions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Прежний линейный поиск (indexOfX + floorIndexOfX) против двоичного в ArrayTabulatedFunction.apply
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayLookupBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private ArrayTabulatedFunction function;
+    private double[] xValues;
+    private double[] yValues;
+    private double[] queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        function = new ArrayTabulatedFunction(new SqrFunction(), 0, size, size);
+        xValues = new double[size];
+        yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = function.getX(i);
+            yValues[i] = function.getY(i);
+        }
+        Random random = new Random(42);
+        queries = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = random.nextDouble() * size;
+        }
+    }
+
+    private double next() {
+        cursor = (cursor + 1) & (QUERIES - 1);
+        return queries[cursor];
+    }
+
+    @Benchmark
+    public double linearSearch() {
+        double x = next();
+        for (int i = 0; i < xValues.length; ++i) {
+            if (Math.abs(xValues[i] - x) < 1e-12) {
+                return yValues[i];
+            }
+        }
+        for (int i = 0; i < xValues.length - 1; i++) {
+            if (xValues[i] < x && x < xValues[i + 1]) {
+                return yValues[i] + (yValues[i + 1] - yValues[i]) * (x - xValues[i]) / (xValues[i + 1] - xValues[i]);
+            }
+        }
+        return Double.NaN;
+    }
+
+    @Benchmark
+    public double binarySearch() {
+        return function.apply(next());
+    }
+}
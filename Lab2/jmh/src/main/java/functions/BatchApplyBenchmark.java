@@ -0,0 +1,79 @@
+package functions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Вычисление функции в отсортированном наборе точек: apply в цикле против applyAll.
+// Uniform - равномерная сетка ArrayTabulatedFunction с арифметическим поиском.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchApplyBenchmark {
+    private static final int QUERIES = 100_000;
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"Array", "LinkedList", "BPlusTree", "Uniform"})
+    private String implementation;
+
+    private TabulatedFunction function;
+    private double[] queries;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        // неравномерная сетка, чтобы не срабатывал арифметический поиск
+        Random random = new Random(42);
+        double[] xValues = new double[size];
+        double[] yValues = new double[size];
+        double x = 0;
+        for (int i = 0; i < size; i++) {
+            x += 0.5 + random.nextDouble();
+            xValues[i] = x;
+            yValues[i] = x * x;
+        }
+        function = switch (implementation) {
+            case "Array" -> new ArrayTabulatedFunction(xValues, yValues);
+            case "LinkedList" -> new LinkedListTabulatedFunction(xValues, yValues);
+            case "BPlusTree" -> new BPlusTreeTabulatedFunction(xValues, yValues);
+            default -> new ArrayTabulatedFunction(new SqrFunction(), 0, x, size);
+        };
+        queries = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = random.nextDouble() * x;
+        }
+        Arrays.sort(queries);
+        out = new double[QUERIES];
+    }
+
+    @Benchmark
+    public double[] applyLoop() {
+        for (int i = 0; i < QUERIES; i++) {
+            out[i] = function.apply(queries[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public double[] applyAll() {
+        function.applyAll(queries, out, 0, QUERIES);
+        return out;
+    }
+}
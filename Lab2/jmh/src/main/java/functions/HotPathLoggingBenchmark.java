@@ -0,0 +1,85 @@
+package functions;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Стоимость журналирования в apply и setY при разных уровнях логгера functions.
+// JmhRunner включает тихий режим, в котором уровень не влияет на результат;
+// для замера без него: -jvmArgsAppend -Dfunctions.quietHotPath=false.
+// На уровне DEBUG вывод консоли лучше направить в /dev/null.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathLoggingBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"1000"})
+    private int size;
+
+    @Param({"DEBUG", "INFO", "WARN"})
+    private String level;
+
+    private TabulatedFunction function;
+
+    @State(Scope.Thread)
+    public static class Queries {
+        private final double[] values = new double[QUERIES];
+        private int cursor;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            for (int i = 0; i < QUERIES; i++) {
+                values[i] = random.nextDouble() * 110 - 5;
+            }
+        }
+
+        private int next() {
+            cursor = (cursor + 1) & (QUERIES - 1);
+            return cursor;
+        }
+    }
+
+    // общее состояние готовит один поток: при параллельной инициализации
+    // SLF4J вернул бы временный SubstituteLogger вместо логгера logback
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("functions")).setLevel(Level.toLevel(level));
+        function = new ArrayTabulatedFunction(new SqrFunction(), 0, 100, size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        HotPathLogging.logSummary();
+    }
+
+    @Benchmark
+    public double apply(Queries queries) {
+        return function.apply(queries.values[queries.next()]);
+    }
+
+    @Benchmark
+    public void setY(Queries queries) {
+        int i = queries.next();
+        function.setY(i % size, i);
+    }
+}
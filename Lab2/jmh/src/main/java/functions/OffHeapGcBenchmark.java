@@ -0,0 +1,66 @@
+package functions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Паузы GC при живой таблице в куче и вне кучи: полная сборка и поток
+// короткоживущих объектов. Время самих сборок - с -prof gc (gc.time).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OffHeapGcBenchmark {
+    private static final int CHURN_ALLOCATIONS = 10_000_000;
+
+    @Param({"20000000"})
+    private int size;
+
+    @Param({"Array", "MemorySegment"})
+    private String implementation;
+
+    private TabulatedFunction function;
+
+    @Setup
+    public void setUp() {
+        function = implementation.equals("Array")
+                ? new ArrayTabulatedFunction(new SqrFunction(), 0, 1, size)
+                : new MemorySegmentTabulatedFunction(new SqrFunction(), 0, 1, size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (function instanceof MemorySegmentTabulatedFunction segment) {
+            segment.close();
+        }
+    }
+
+    @Benchmark
+    public void fullGc() {
+        System.gc();
+    }
+
+    @Benchmark
+    public double churn() {
+        double sink = 0;
+        for (int i = 0; i < CHURN_ALLOCATIONS; i++) {
+            double[] garbage = new double[4];
+            garbage[i & 3] = function.getY(i % size);
+            sink += garbage[i & 3];
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,103 @@
+package functions;
+
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Доступ к точкам, вычисление и вставка/удаление для массива и связного списка
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TabulatedFunctionBenchmark {
+    // степень двойки, чтобы переход к следующему запросу был маской
+    private static final int QUERIES = 1024;
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    @Param({"Array", "LinkedList"})
+    private String implementation;
+
+    private TabulatedFunction function;
+    private double[] queries;
+    private int[] indices;
+    private int cursor;
+    private double sum;
+
+    @Setup
+    public void setUp() {
+        double[] xValues = new double[size];
+        double[] yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = i;
+            yValues[i] = (double) i * i;
+        }
+        function = implementation.equals("Array")
+                ? new ArrayTabulatedFunctionFactory().create(xValues, yValues)
+                : new LinkedListTabulatedFunctionFactory().create(xValues, yValues);
+
+        Random random = new Random(42);
+        queries = new double[QUERIES];
+        indices = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = random.nextDouble() * (size - 1);
+            indices[i] = random.nextInt(size - 1);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (QUERIES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public double apply() {
+        return function.apply(queries[next()]);
+    }
+
+    @Benchmark
+    public double getY() {
+        return function.getY(indices[next()]);
+    }
+
+    @Benchmark
+    public double iterator() {
+        double total = 0;
+        for (Point point : function) {
+            total += point.y;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double forEachPoint() {
+        sum = 0;
+        function.forEachPoint((x, y) -> sum += y);
+        return sum;
+    }
+
+    // Вставка точки между узлами сетки и её удаление: размер функции не меняется
+    @Benchmark
+    public int insertAndRemove() {
+        int index = indices[next()];
+        ((Insertable) function).insert(index + 0.5, 0);
+        ((Removable) function).remove(index + 1);
+        return function.getCount();
+    }
+}
@@ -0,0 +1,56 @@
+package functions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Полный обход точек через Iterator<Point> и через forEachPoint.
+// Выделение памяти на обход видно с -prof gc (gc.alloc.rate.norm).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalAllocationBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"Array", "LinkedList"})
+    private String implementation;
+
+    private TabulatedFunction function;
+
+    @Setup
+    public void setUp() {
+        function = implementation.equals("Array")
+                ? new ArrayTabulatedFunction(new SqrFunction(), 0, 1, size)
+                : new LinkedListTabulatedFunction(new SqrFunction(), 0, 1, size);
+    }
+
+    @Benchmark
+    public double iterator() {
+        double sum = 0;
+        for (Point point : function) {
+            sum += point.y;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double forEachPoint() {
+        double[] sum = {0};
+        function.forEachPoint((x, y) -> sum[0] += y);
+        return sum[0];
+    }
+}
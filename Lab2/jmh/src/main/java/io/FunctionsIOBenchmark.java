@@ -0,0 +1,159 @@
+package io;
+
+import functions.MappedTabulatedFunction;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Все пути чтения и записи FunctionsIO: текст, бинарный формат,
+// отображение файла в память и сериализация. Потоки в памяти,
+// чтобы замер не зависел от диска (кроме отображения файла).
+// Класс в пакете io, так как текстовые методы FunctionsIO пакетные.
+// Стандартная сериализация связного списка рекурсивна по узлам,
+// поэтому для 100000 точек нужен большой стек.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss512m")
+public class FunctionsIOBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"Array", "LinkedList"})
+    private String implementation;
+
+    private TabulatedFunctionFactory factory;
+    private TabulatedFunction function;
+    private String text;
+    private byte[] binary;
+    private byte[] serialized;
+    private Path mappedFile;
+    private Path columnFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        factory = implementation.equals("Array")
+                ? new ArrayTabulatedFunctionFactory()
+                : new LinkedListTabulatedFunctionFactory();
+        double[] xValues = new double[size];
+        double[] yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = i;
+            yValues[i] = i * 0.5;
+        }
+        function = factory.create(xValues, yValues);
+
+        StringWriter textWriter = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(textWriter)) {
+            FunctionsIO.writeTabulatedFunction(writer, function);
+        }
+        text = textWriter.toString();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        FunctionsIO.writeTabulatedFunction(new BufferedOutputStream(bytes), function);
+        binary = bytes.toByteArray();
+
+        bytes = new ByteArrayOutputStream();
+        FunctionsIO.serialize(new BufferedOutputStream(bytes), function);
+        serialized = bytes.toByteArray();
+
+        mappedFile = Files.createTempFile("functions-io-benchmark", ".bin");
+        Files.write(mappedFile, binary);
+        columnFile = Files.createTempFile("functions-io-benchmark", ".v2.bin");
+        FunctionsIO.writeTabulatedFunction(columnFile, function);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(mappedFile);
+        Files.deleteIfExists(columnFile);
+    }
+
+    @Benchmark
+    public void writeText() throws IOException {
+        FunctionsIO.writeTabulatedFunction(new BufferedWriter(Writer.nullWriter()), function);
+    }
+
+    @Benchmark
+    public void writeTextShortest() throws IOException {
+        FunctionsIO.writeTabulatedFunction(new BufferedWriter(Writer.nullWriter()), function, TabulatedTextWriter.SHORTEST);
+    }
+
+    @Benchmark
+    public TabulatedFunction readText() throws IOException {
+        return FunctionsIO.readTabulatedFunction(new BufferedReader(new StringReader(text)), factory);
+    }
+
+    @Benchmark
+    public void writeBinary() throws IOException {
+        FunctionsIO.writeTabulatedFunction(new BufferedOutputStream(OutputStream.nullOutputStream()), function);
+    }
+
+    @Benchmark
+    public TabulatedFunction readBinary() throws IOException {
+        return FunctionsIO.readTabulatedFunction(new BufferedInputStream(new ByteArrayInputStream(binary)), factory);
+    }
+
+    // Формат v2 через FileChannel, с настоящим файлом
+    @Benchmark
+    public void writeColumnBinary() throws IOException {
+        FunctionsIO.writeTabulatedFunction(columnFile, function);
+    }
+
+    @Benchmark
+    public TabulatedFunction readColumnBinary() throws IOException {
+        return FunctionsIO.readTabulatedFunction(columnFile, factory);
+    }
+
+    @Benchmark
+    public TabulatedFunction readColumnBinaryVersionOne() throws IOException {
+        return FunctionsIO.readTabulatedFunction(mappedFile, factory);
+    }
+
+    @Benchmark
+    public double mapBinary() throws IOException {
+        try (MappedTabulatedFunction mapped = FunctionsIO.mapTabulatedFunction(mappedFile)) {
+            return mapped.apply(size / 2.0 + 0.25);
+        }
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        FunctionsIO.serialize(new BufferedOutputStream(OutputStream.nullOutputStream()), function);
+    }
+
+    @Benchmark
+    public TabulatedFunction deserialize() throws IOException, ClassNotFoundException {
+        return FunctionsIO.deserialize(new BufferedInputStream(new ByteArrayInputStream(serialized)));
+    }
+}
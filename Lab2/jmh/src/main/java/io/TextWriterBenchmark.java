@@ -0,0 +1,71 @@
+package io;
+
+import functions.ArrayTabulatedFunction;
+import functions.Point;
+import functions.TabulatedFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Запись текстового формата для больших функций: прежний printf("%f %f%n")
+// против TabulatedTextWriter в кратчайшем и фиксированном режимах.
+// Один замер - запись всей функции в Writer.nullWriter().
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TextWriterBenchmark {
+    @Param({"10000000"})
+    private int size;
+
+    @Param({"printf", "shortest", "fixed"})
+    private String implementation;
+
+    private TabulatedFunction function;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double[] xValues = new double[size];
+        double[] yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = i * 0.001;
+            yValues[i] = random.nextGaussian() * 1000;
+        }
+        function = new ArrayTabulatedFunction(xValues, yValues);
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        BufferedWriter writer = new BufferedWriter(Writer.nullWriter());
+        switch (implementation) {
+            case "printf" -> {
+                PrintWriter printWriter = new PrintWriter(writer);
+                printWriter.println(function.getCount());
+                for (Point point : function) {
+                    printWriter.printf("%f %f%n", point.x, point.y);
+                }
+                printWriter.flush();
+            }
+            case "shortest" -> FunctionsIO.writeTabulatedFunction(writer, function, TabulatedTextWriter.SHORTEST);
+            default -> FunctionsIO.writeTabulatedFunction(writer, function);
+        }
+    }
+}
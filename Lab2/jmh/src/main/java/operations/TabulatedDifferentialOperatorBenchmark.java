@@ -0,0 +1,56 @@
+package operations;
+
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TabulatedDifferentialOperatorBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"Array", "LinkedList"})
+    private String implementation;
+
+    private TabulatedDifferentialOperator operator;
+    private TabulatedFunction function;
+
+    @Setup
+    public void setUp() {
+        TabulatedFunctionFactory factory = implementation.equals("Array")
+                ? new ArrayTabulatedFunctionFactory()
+                : new LinkedListTabulatedFunctionFactory();
+        operator = new TabulatedDifferentialOperator(factory);
+        double[] xValues = new double[size];
+        double[] yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = i * 0.01;
+            yValues[i] = Math.sin(xValues[i]);
+        }
+        function = factory.create(xValues, yValues);
+    }
+
+    @Benchmark
+    public TabulatedFunction derive() {
+        return operator.derive(function);
+    }
+}
@@ -0,0 +1,75 @@
+package operations;
+
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Четыре бинарные операции сервиса; фабрика совпадает с реализацией операндов
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TabulatedFunctionOperationServiceBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"Array", "LinkedList"})
+    private String implementation;
+
+    private TabulatedFunctionOperationService service;
+    private TabulatedFunction f;
+    private TabulatedFunction g;
+
+    @Setup
+    public void setUp() {
+        TabulatedFunctionFactory factory = implementation.equals("Array")
+                ? new ArrayTabulatedFunctionFactory()
+                : new LinkedListTabulatedFunctionFactory();
+        service = new TabulatedFunctionOperationService(factory);
+        // на [1, 10] знаменатель g(x) = x не обращается в ноль
+        double[] xValues = new double[size];
+        double[] squares = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = 1 + 9.0 * i / (size - 1);
+            squares[i] = xValues[i] * xValues[i];
+        }
+        f = factory.create(xValues, squares);
+        g = factory.create(xValues, xValues.clone());
+    }
+
+    @Benchmark
+    public TabulatedFunction sum() {
+        return service.sum(f, g);
+    }
+
+    @Benchmark
+    public TabulatedFunction subtract() {
+        return service.subtract(f, g);
+    }
+
+    @Benchmark
+    public TabulatedFunction multiply() {
+        return service.multiply(f, g);
+    }
+
+    @Benchmark
+    public TabulatedFunction divide() {
+        return service.divide(f, g);
+    }
+}
@@ -0,0 +1,79 @@
+package operations;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Скалярные и векторные ядра поэлементных операций. Без модуля
+// jdk.incubator.vector вариант Preferred совпадает со скалярным.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorKernelsBenchmark {
+    @Param({"1000", "1000000"})
+    private int size;
+
+    @Param({"Scalar", "Preferred"})
+    private String implementation;
+
+    private ElementwiseKernels kernels;
+    private double[] u;
+    private double[] v;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        kernels = implementation.equals("Scalar") ? ElementwiseKernels.scalar() : ElementwiseKernels.preferred();
+        Random random = new Random(42);
+        u = new double[size];
+        v = new double[size];
+        for (int i = 0; i < size; i++) {
+            u[i] = random.nextDouble();
+            v[i] = 1 + random.nextDouble();
+        }
+        out = new double[size];
+    }
+
+    @Benchmark
+    public double[] sum() {
+        kernels.sum(u, v, out, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public double[] subtract() {
+        kernels.subtract(u, v, out, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public double[] multiply() {
+        kernels.multiply(u, v, out, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public double[] divide() {
+        kernels.divide(u, v, out, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public int firstMismatch() {
+        return kernels.firstMismatch(u, u, 0, size, 1e-9);
+    }
+}
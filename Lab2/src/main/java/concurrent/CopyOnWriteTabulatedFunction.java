@@ -0,0 +1,328 @@
+package concurrent;
+
+import functions.AbstractTabulatedFunction;
+import functions.HotPathLogging;
+import functions.Insertable;
+import functions.Point;
+import functions.Removable;
+import functions.TabulatedFunction;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.extern.slf4j.Slf4j;
+
+// Табулированная функция с копированием при записи.
+// Точки хранятся в неизменяемом снимке, опубликованном через volatile-ссылку:
+// читатели (apply, итератор) работают без блокировок с тем снимком, который успели взять,
+// писатели по очереди строят новый снимок и подменяют ссылку.
+// Отдельные вызовы getX/getY могут попасть в разные снимки; согласованный обход даёт итератор.
+@Slf4j
+public class CopyOnWriteTabulatedFunction implements TabulatedFunction, Insertable, Removable {
+    @Serial
+    private static final long serialVersionUID = 2619405117863190346L;
+
+    private static final class Snapshot implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -4305566158124473850L;
+
+        // после публикации массивы не изменяются, поэтому их можно делить между снимками
+        private final double[] xValues;
+        private final double[] yValues;
+
+        private Snapshot(double[] xValues, double[] yValues) {
+            this.xValues = xValues;
+            this.yValues = yValues;
+        }
+
+        private int count() {
+            return xValues.length;
+        }
+
+        // Индекс совпадающей точки или -(floorIndex) - 2, см. AbstractTabulatedFunction.searchSorted
+        private int searchX(double x) {
+            return (int) AbstractTabulatedFunction.searchSorted(index -> xValues[(int) index], xValues.length, x);
+        }
+
+        private double interpolate(double x, int leftIndex) {
+            double leftX = xValues[leftIndex];
+            double rightX = xValues[leftIndex + 1];
+            double leftY = yValues[leftIndex];
+            double rightY = yValues[leftIndex + 1];
+            return AbstractTabulatedFunction.linearInterpolation(x, leftX, rightX, leftY, rightY);
+        }
+
+        private double apply(double x) {
+            int count = xValues.length;
+            if (x < xValues[0]) {
+                return interpolate(x, 0);
+            }
+            if (x > xValues[count - 1]) {
+                return interpolate(x, count - 2);
+            }
+            int index = searchX(x);
+            if (index >= 0) {
+                return yValues[index];
+            }
+            return interpolate(x, -index - 2);
+        }
+    }
+
+    private volatile Snapshot snapshot;
+
+    public CopyOnWriteTabulatedFunction(double[] xValues, double[] yValues) {
+        log.debug("Создание CopyOnWriteTabulatedFunction из массивов, размер: {}", xValues.length);
+        if (xValues.length < 2){
+            log.error("Недостаточно точек для создания функции: {}", xValues.length);
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+        AbstractTabulatedFunction.checkSorted(xValues);
+        this.snapshot = new Snapshot(Arrays.copyOf(xValues, xValues.length), Arrays.copyOf(yValues, yValues.length));
+        log.info("CopyOnWriteTabulatedFunction создан успешно, {} точек", xValues.length);
+    }
+
+    public CopyOnWriteTabulatedFunction(TabulatedFunction function) {
+        log.debug("Создание CopyOnWriteTabulatedFunction по функции {}", function.getClass().getSimpleName());
+        double[] xValues = new double[function.getCount()];
+        double[] yValues = new double[function.getCount()];
+        int i = 0;
+        for (Point point : function) {
+            xValues[i] = point.x;
+            yValues[i] = point.y;
+            i++;
+        }
+        this.snapshot = new Snapshot(xValues, yValues);
+        log.info("CopyOnWriteTabulatedFunction создан успешно, {} точек", xValues.length);
+    }
+
+    private static void checkIndex(Snapshot current, int index) {
+        if (index < 0 || index >= current.count()) {
+            log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, current.count()-1);
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + current.count());
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return snapshot.count();
+    }
+
+    @Override
+    public double getX(int index) {
+        Snapshot current = snapshot;
+        checkIndex(current, index);
+        return current.xValues[index];
+    }
+
+    @Override
+    public double getY(int index) {
+        Snapshot current = snapshot;
+        checkIndex(current, index);
+        return current.yValues[index];
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = snapshot.searchX(x);
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        double[] yValues = snapshot.yValues;
+        for (int i = 0; i < yValues.length; ++i) {
+            if (Math.abs(yValues[i] - y) < 1e-12) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return snapshot.xValues[0];
+    }
+
+    @Override
+    public double rightBound() {
+        Snapshot current = snapshot;
+        return current.xValues[current.count() - 1];
+    }
+
+    @Override
+    public double apply(double x) {
+        return snapshot.apply(x);
+    }
+
+    @Override
+    public void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        Snapshot current = snapshot;
+        AbstractTabulatedFunction.checkRange(current.count(), fromIndex, length);
+        System.arraycopy(current.xValues, fromIndex, target, targetOffset, length);
+    }
+
+    @Override
+    public void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        Snapshot current = snapshot;
+        AbstractTabulatedFunction.checkRange(current.count(), fromIndex, length);
+        System.arraycopy(current.yValues, fromIndex, target, targetOffset, length);
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer action) {
+        Snapshot current = snapshot;
+        for (int i = 0; i < current.count(); i++) {
+            action.accept(current.xValues[i], current.yValues[i]);
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        Snapshot current = snapshot;
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < current.count();
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    log.error("Попытка вызова next() когда элементов больше нет");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(current.xValues[i], current.yValues[i]);
+                i++;
+                return point;
+            }
+        };
+    }
+
+    // Писатели сериализуются на мониторе функции; читателей это не касается
+
+    @Override
+    public synchronized void setY(int index, double value) {
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.WRITES);
+        }
+        else {
+            log.debug("Установка Y[{}] = {}", index, value);
+        }
+        Snapshot current = snapshot;
+        checkIndex(current, index);
+        double[] yValues = current.yValues.clone();
+        yValues[index] = value;
+        snapshot = new Snapshot(current.xValues, yValues);
+    }
+
+    @Override
+    public synchronized void insert(double x, double y) {
+        log.debug("Вставка точки: x = {}, y = {}", x, y);
+        Snapshot current = snapshot;
+        int index = current.searchX(x);
+        if (index >= 0) {
+            log.debug("Точка с X = {} уже существует, обновление Y", x);
+            double[] yValues = current.yValues.clone();
+            yValues[index] = y;
+            snapshot = new Snapshot(current.xValues, yValues);
+            return;
+        }
+        int position = -index - 1;
+        int count = current.count();
+        double[] xValues = new double[count + 1];
+        double[] yValues = new double[count + 1];
+        System.arraycopy(current.xValues, 0, xValues, 0, position);
+        System.arraycopy(current.yValues, 0, yValues, 0, position);
+        xValues[position] = x;
+        yValues[position] = y;
+        System.arraycopy(current.xValues, position, xValues, position + 1, count - position);
+        System.arraycopy(current.yValues, position, yValues, position + 1, count - position);
+        snapshot = new Snapshot(xValues, yValues);
+        log.info("Точка вставлена, новый размер: {}", count + 1);
+    }
+
+    // Слияние за один проход в новый снимок
+    @Override
+    public synchronized void insertAll(double[] xValues, double[] yValues) {
+        log.debug("Вставка пачки из {} точек", xValues.length);
+        AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+        AbstractTabulatedFunction.checkSorted(xValues);
+        Snapshot current = snapshot;
+        int count = current.count();
+        double[] mergedX = new double[count + xValues.length];
+        double[] mergedY = new double[count + xValues.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < count || j < xValues.length) {
+            if (j == xValues.length || (i < count && current.xValues[i] < xValues[j] - 1e-12)) {
+                mergedX[k] = current.xValues[i];
+                mergedY[k++] = current.yValues[i++];
+            }
+            else if (i == count || xValues[j] < current.xValues[i] - 1e-12) {
+                mergedX[k] = xValues[j];
+                mergedY[k++] = yValues[j++];
+            }
+            else {
+                mergedX[k] = current.xValues[i++];
+                mergedY[k++] = yValues[j++];
+            }
+        }
+        snapshot = new Snapshot(Arrays.copyOf(mergedX, k), Arrays.copyOf(mergedY, k));
+        log.info("Пачка вставлена, новый размер: {}", k);
+    }
+
+    @Override
+    public synchronized void remove(int index) {
+        log.debug("Удаление точки с индексом {}", index);
+        removeRange(index, index + 1);
+    }
+
+    @Override
+    public synchronized void removeRange(int fromIndex, int toIndex) {
+        log.debug("Удаление точек с индексами [{}, {})", fromIndex, toIndex);
+        Snapshot current = snapshot;
+        int count = current.count();
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            log.error("Неверный диапазон для удаления: [{}, {}), размер: {}", fromIndex, toIndex, count);
+            throw new IllegalArgumentException("Range: [" + fromIndex + ", " + toIndex + "), Size: " + count);
+        }
+        int removed = toIndex - fromIndex;
+        if (removed == 0) {
+            return;
+        }
+        double[] xValues = new double[count - removed];
+        double[] yValues = new double[count - removed];
+        System.arraycopy(current.xValues, 0, xValues, 0, fromIndex);
+        System.arraycopy(current.yValues, 0, yValues, 0, fromIndex);
+        System.arraycopy(current.xValues, toIndex, xValues, fromIndex, count - toIndex);
+        System.arraycopy(current.yValues, toIndex, yValues, fromIndex, count - toIndex);
+        snapshot = new Snapshot(xValues, yValues);
+        log.info("Удалено {} точек, новый размер: {}", removed, count - removed);
+    }
+
+    @Override
+    public synchronized int removeIf(PointPredicate predicate) {
+        Snapshot current = snapshot;
+        int count = current.count();
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (!predicate.test(current.xValues[i], current.yValues[i])) {
+                xValues[kept] = current.xValues[i];
+                yValues[kept] = current.yValues[i];
+                kept++;
+            }
+        }
+        if (kept < count) {
+            snapshot = new Snapshot(Arrays.copyOf(xValues, kept), Arrays.copyOf(yValues, kept));
+        }
+        log.info("Удалено {} точек по условию, новый размер: {}", count - kept, kept);
+        return count - kept;
+    }
+}
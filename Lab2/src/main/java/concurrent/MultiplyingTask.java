@@ -14,9 +14,19 @@ public class MultiplyingTask implements Runnable {
 
     @Override
     public void run() {
-        for (int i = 0; i < function.getCount(); i++) {
-            synchronized (function) {
-                function.setY(i, 2 * function.getY(i));
+        if (function instanceof StripedTabulatedFunction striped) {
+            // блокируется только блок с текущим индексом
+            for (int i = 0; i < striped.getCount(); i++) {
+                striped.updateY(i, y -> 2 * y);
+            }
+        }
+        else {
+            // под монитором функции, как в ReadTask и WriteTask: CAS в ArrayTabulatedFunction.updateY
+            // не согласован со вставкой и удалением, которые другие задачи выполняют под тем же монитором
+            for (int i = 0; i < function.getCount(); i++) {
+                synchronized (function) {
+                    function.setY(i, 2 * function.getY(i));
+                }
             }
         }
 
@@ -1,6 +1,6 @@
 package concurrent;
 
-import functions.LinkedListTabulatedFunction;
+import functions.ArrayTabulatedFunction;
 import functions.TabulatedFunction;
 import functions.UnitFunction;
 import lombok.extern.slf4j.Slf4j;
@@ -11,8 +11,8 @@ import java.util.List;
 public class MultiplyingTaskExecutor {
     public static void main(String[] args) {
         log.info("Запуск MultiplyingTaskExecutor");
-        TabulatedFunction function = new LinkedListTabulatedFunction(new UnitFunction(),
-                1, 1000, 1000);
+        TabulatedFunction function = new StripedTabulatedFunction(new ArrayTabulatedFunction(new UnitFunction(),
+                1, 1000, 1000));
         log.debug("Создана табулированная функция: {} точек, диапазон [{}, {}]",
                 function.getCount(), function.leftBound(), function.rightBound());
 
@@ -1,5 +1,6 @@
 package concurrent;
 
+import functions.HotPathLogging;
 import functions.TabulatedFunction;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,7 +17,11 @@ public class ReadTask implements Runnable {
         log.info("Поток {} начал чтение значений функции", currentThread.getName());
         for(int i = 0; i < function.getCount(); i++){
             synchronized (function){
-                log.debug("Прочитано: i = {}, x = {}, y = {}", i, function.getX(i), function.getY(i));
+                double x = function.getX(i);
+                double y = function.getY(i);
+                if (!HotPathLogging.QUIET) {
+                    log.debug("Прочитано: i = {}, x = {}, y = {}", i, x, y);
+                }
             }
             try{
                 Thread.sleep(1);
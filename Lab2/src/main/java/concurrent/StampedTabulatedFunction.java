@@ -0,0 +1,259 @@
+package concurrent;
+
+import functions.HotPathLogging;
+import functions.Point;
+import functions.TabulatedFunction;
+import operations.TabulatedFunctionOperationService;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+// Потокобезопасная обёртка на StampedLock для функций с hasPureReads():
+// getCount, getX, getY и границы читаются оптимистично без блокировки и повторяются
+// под блокировкой чтения, только если параллельно была запись. apply, indexOfX и indexOfY
+// пишут журнал и счётчики HotPathLogging, поэтому выполняются один раз под блокировкой чтения.
+// Функции без hasPureReads() (например, LinkedListTabulatedFunction с курсором и ленивым
+// индексом) читаются под блокировкой записи.
+@Slf4j
+public class StampedTabulatedFunction implements TabulatedFunction {
+    private final TabulatedFunction function;
+    private final StampedLock lock = new StampedLock();
+    private final boolean pureReads;
+    // StampedLock не реентерабелен: поток внутри doSynchronously обращается к функции напрямую
+    private volatile Thread writer;
+
+    public StampedTabulatedFunction(TabulatedFunction function) {
+        this.function = function;
+        this.pureReads = function.hasPureReads();
+        log.debug("Создан StampedTabulatedFunction для {}, оптимистичные чтения: {}", function.getClass().getSimpleName(), pureReads);
+    }
+
+    public interface Operation<T> {
+        T apply(StampedTabulatedFunction stampedFunction);
+    }
+
+    public <T> T doSynchronously(Operation<? extends T> operation) {
+        if (writer == Thread.currentThread()) {
+            return operation.apply(this);
+        }
+        long stamp = lock.writeLock();
+        writer = Thread.currentThread();
+        try {
+            return operation.apply(this);
+        } finally {
+            writer = null;
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private double readDouble(DoubleSupplier reader, boolean optimistic) {
+        if (writer == Thread.currentThread()) {
+            return reader.getAsDouble();
+        }
+        if (!pureReads) {
+            long stamp = lock.writeLock();
+            writer = Thread.currentThread();
+            try {
+                return reader.getAsDouble();
+            } finally {
+                writer = null;
+                lock.unlockWrite(stamp);
+            }
+        }
+        long stamp = optimistic ? lock.tryOptimisticRead() : 0L;
+        if (stamp != 0L) {
+            try {
+                double result = reader.getAsDouble();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // исключение на несогласованном состоянии не считается, если была запись
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.getAsDouble();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int readInt(IntSupplier reader, boolean optimistic) {
+        if (writer == Thread.currentThread()) {
+            return reader.getAsInt();
+        }
+        if (!pureReads) {
+            long stamp = lock.writeLock();
+            writer = Thread.currentThread();
+            try {
+                return reader.getAsInt();
+            } finally {
+                writer = null;
+                lock.unlockWrite(stamp);
+            }
+        }
+        long stamp = optimistic ? lock.tryOptimisticRead() : 0L;
+        if (stamp != 0L) {
+            try {
+                int result = reader.getAsInt();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.getAsInt();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Неверный индекс сразу читается под блокировкой, чтобы ошибка
+    // записывалась в журнал один раз, а не при каждой оптимистичной попытке
+    private boolean optimisticIndex(int index) {
+        return pureReads && index >= 0 && index < function.getCount();
+    }
+
+    @Override
+    public int getCount() {
+        return readInt(function::getCount, true);
+    }
+
+    @Override
+    public double getX(int index) {
+        return readDouble(() -> function.getX(index), optimisticIndex(index));
+    }
+
+    @Override
+    public double getY(int index) {
+        return readDouble(() -> function.getY(index), optimisticIndex(index));
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        if (writer == Thread.currentThread()) {
+            function.setY(index, value);
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            function.setY(index, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        return readInt(() -> function.indexOfX(x), false);
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        return readInt(() -> function.indexOfY(y), false);
+    }
+
+    @Override
+    public double leftBound() {
+        return readDouble(function::leftBound, true);
+    }
+
+    @Override
+    public double rightBound() {
+        return readDouble(function::rightBound, true);
+    }
+
+    @Override
+    public double apply(double x) {
+        return readDouble(() -> function.apply(x), false);
+    }
+
+    // Обход и копирование под блокировкой чтения, без оптимистичной попытки:
+    // действие вызывающего нельзя повторить
+    private void underReadLock(Runnable reader) {
+        if (writer == Thread.currentThread()) {
+            reader.run();
+            return;
+        }
+        if (!pureReads) {
+            doSynchronously(stampedFunction -> {
+                reader.run();
+                return null;
+            });
+            return;
+        }
+        long stamp = lock.readLock();
+        try {
+            reader.run();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        underReadLock(() -> function.copyXValues(fromIndex, target, targetOffset, length));
+    }
+
+    @Override
+    public void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        underReadLock(() -> function.copyYValues(fromIndex, target, targetOffset, length));
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer action) {
+        underReadLock(() -> function.forEachPoint(action));
+    }
+
+    @Override
+    public void applyAll(double[] xs, double[] out, int from, int to) {
+        underReadLock(() -> function.applyAll(xs, out, from, to));
+    }
+
+    // Итератор обходит копию точек, снятую под блокировкой чтения
+    @Override
+    public Iterator<Point> iterator() {
+        Point[][] snapshot = new Point[1][];
+        underReadLock(() -> snapshot[0] = TabulatedFunctionOperationService.asPoints(function));
+        Point[] copyfunction = snapshot[0];
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.TRAVERSALS);
+        }
+        else {
+            log.debug("Создан массив из {} точек для итератора", copyfunction.length);
+        }
+        return new Iterator<Point>(){
+            private int currentIndex = 0;
+            private final Point[] points = copyfunction;
+            @Override
+            public boolean hasNext(){
+                return currentIndex < points.length;
+            }
+            @Override
+            public Point next(){
+                if(!hasNext()){
+                    log.error("Попытка вызова next() когда элементов больше нет");
+                    throw new NoSuchElementException();
+                }
+                return points[currentIndex++];
+            }
+            @Override
+            public void remove(){
+                log.error("Попытка вызова remove() у итератора");
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
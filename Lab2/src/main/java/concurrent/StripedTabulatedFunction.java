@@ -0,0 +1,311 @@
+package concurrent;
+
+import functions.ArrayTabulatedFunction;
+import functions.HotPathLogging;
+import functions.Insertable;
+import functions.Point;
+import functions.Removable;
+import functions.TabulatedFunction;
+import operations.TabulatedFunctionOperationService;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+
+// Потокобезопасная обёртка над ArrayTabulatedFunction с разделёнными блокировками.
+// Индексы разбиты на блоки по BLOCK_SIZE точек, блок i охраняется блокировкой i % STRIPES,
+// поэтому setY в непересекающихся диапазонах идут параллельно.
+// Структурные изменения (insert, remove) захватывают все блокировки по порядку.
+@Slf4j
+public class StripedTabulatedFunction implements TabulatedFunction, Insertable, Removable {
+    private static final int STRIPES = 16;
+    private static final int BLOCK_SHIFT = 6;
+
+    private final ArrayTabulatedFunction function;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public StripedTabulatedFunction(ArrayTabulatedFunction function) {
+        this.function = function;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        log.debug("Создан StripedTabulatedFunction для функции с {} точками, {} блокировок", function.getCount(), STRIPES);
+    }
+
+    private static int stripeOf(int index) {
+        return (index >>> BLOCK_SHIFT) & (STRIPES - 1);
+    }
+
+    // Для операций без индекса: любая блокировка исключает структурные изменения,
+    // потоки распределяются по разным блокировкам
+    private ReentrantLock anyLock() {
+        return locks[(int) Thread.currentThread().threadId() & (STRIPES - 1)];
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    // Атомарное чтение-изменение-запись одного значения под блокировкой его блока
+    public double updateY(int index, DoubleUnaryOperator operator) {
+        ReentrantLock lock = locks[stripeOf(index)];
+        lock.lock();
+        try {
+            double value = operator.applyAsDouble(function.getY(index));
+            function.setY(index, value);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getCount() {
+        ReentrantLock lock = anyLock();
+        lock.lock();
+        try {
+            return function.getCount();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public double getX(int index) {
+        ReentrantLock lock = locks[stripeOf(index)];
+        lock.lock();
+        try {
+            return function.getX(index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public double getY(int index) {
+        ReentrantLock lock = locks[stripeOf(index)];
+        lock.lock();
+        try {
+            return function.getY(index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        ReentrantLock lock = locks[stripeOf(index)];
+        lock.lock();
+        try {
+            function.setY(index, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        ReentrantLock lock = anyLock();
+        lock.lock();
+        try {
+            return function.indexOfX(x);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        ReentrantLock lock = anyLock();
+        lock.lock();
+        try {
+            return function.indexOfY(y);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public double leftBound() {
+        ReentrantLock lock = anyLock();
+        lock.lock();
+        try {
+            return function.leftBound();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public double rightBound() {
+        ReentrantLock lock = anyLock();
+        lock.lock();
+        try {
+            return function.rightBound();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public double apply(double x) {
+        ReentrantLock lock = anyLock();
+        lock.lock();
+        try {
+            return function.apply(x);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void applyAll(double[] xs, double[] out, int from, int to) {
+        ReentrantLock lock = anyLock();
+        lock.lock();
+        try {
+            function.applyAll(xs, out, from, to);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        lockAll();
+        try {
+            function.insert(x, y);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void insertAll(double[] xValues, double[] yValues) {
+        lockAll();
+        try {
+            function.insertAll(xValues, yValues);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void remove(int index) {
+        lockAll();
+        try {
+            function.remove(index);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        lockAll();
+        try {
+            function.removeRange(fromIndex, toIndex);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public int removeIf(PointPredicate predicate) {
+        lockAll();
+        try {
+            return function.removeIf(predicate);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        ReentrantLock lock = anyLock();
+        lock.lock();
+        try {
+            function.copyXValues(fromIndex, target, targetOffset, length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // X меняются только структурно, столбец Y снимается под всеми блокировками целиком
+    @Override
+    public void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        lockAll();
+        try {
+            function.copyYValues(fromIndex, target, targetOffset, length);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer action) {
+        lockAll();
+        try {
+            function.forEachPoint(action);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    // Итератор обходит копию точек, снятую под всеми блокировками
+    @Override
+    public Iterator<Point> iterator() {
+        Point[] copyfunction;
+        lockAll();
+        try {
+            copyfunction = TabulatedFunctionOperationService.asPoints(function);
+        } finally {
+            unlockAll();
+        }
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.TRAVERSALS);
+        }
+        else {
+            log.debug("Создан массив из {} точек для итератора", copyfunction.length);
+        }
+        return new Iterator<Point>(){
+            private int currentIndex = 0;
+            private final Point[] points = copyfunction;
+            @Override
+            public boolean hasNext(){
+                return currentIndex < points.length;
+            }
+            @Override
+            public Point next(){
+                if(!hasNext()){
+                    log.error("Попытка вызова next() когда элементов больше нет");
+                    throw new NoSuchElementException();
+                }
+                return points[currentIndex++];
+            }
+            @Override
+            public void remove(){
+                log.error("Попытка вызова remove() у итератора");
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        lockAll();
+        try {
+            return function.toString();
+        } finally {
+            unlockAll();
+        }
+    }
+}
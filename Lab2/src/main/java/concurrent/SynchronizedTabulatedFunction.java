@@ -1,5 +1,6 @@
 package concurrent;
 
+import functions.HotPathLogging;
 import functions.Point;
 import functions.TabulatedFunction;
 import operations.TabulatedFunctionOperationService;
@@ -71,11 +72,44 @@ public class SynchronizedTabulatedFunction implements TabulatedFunction {
         return function.apply(x);
     }
 
+    @Override
+    public synchronized void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        synchronized (function) {
+            function.copyXValues(fromIndex, target, targetOffset, length);
+        }
+    }
+
+    @Override
+    public synchronized void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        synchronized (function) {
+            function.copyYValues(fromIndex, target, targetOffset, length);
+        }
+    }
+
+    @Override
+    public synchronized void forEachPoint(PointConsumer action) {
+        synchronized (function) {
+            function.forEachPoint(action);
+        }
+    }
+
+    @Override
+    public synchronized void applyAll(double[] xs, double[] out, int from, int to) {
+        synchronized (function) {
+            function.applyAll(xs, out, from, to);
+        }
+    }
+
     @Override
     public synchronized Iterator<Point> iterator() {
         synchronized (function){
             Point[] copyfunction = TabulatedFunctionOperationService.asPoints(function);
-            log.debug("Создан массив из {} точек для итератора", copyfunction.length);
+            if (HotPathLogging.QUIET) {
+                HotPathLogging.count(HotPathLogging.Counter.TRAVERSALS);
+            }
+            else {
+                log.debug("Создан массив из {} точек для итератора", copyfunction.length);
+            }
             return new Iterator<Point>(){
                 private int currentIndex = 0;
                 private final Point[] points = copyfunction;
@@ -9,8 +9,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class AbstractTabulatedFunction implements TabulatedFunction, Serializable {
 
+    // Сколько интервалов applyAll проходит шагами, прежде чем перейти к поиску
+    private static final int MERGE_WALK_STEPS = 8;
+
     protected int count;
 
+    // Равномерная сетка: x[i] = gridStart + i * gridStep.
+    // Флаг сбрасывается, как только вставка или удаление нарушают шаг.
+    protected boolean uniform;
+    protected double gridStart;
+    protected double gridStep;
+
     protected abstract int floorIndexOfX(double x);
 
     protected abstract double extrapolateLeft(double x);
@@ -19,34 +28,201 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction, Se
     protected abstract double interpolate(double x, int floorIndex);
 
     protected double interpolate(double x, double leftX, double rightX, double leftY, double rightY) {
+        return linearInterpolation(x, leftX, rightX, leftY, rightY);
+    }
+
+    // Общие поиск и интерполяция для хранилищ с отсортированным столбцом x:
+    // массивов, сегментов памяти и отображённых файлов
+
+    public static double linearInterpolation(double x, double leftX, double rightX, double leftY, double rightY) {
         return leftY + (rightY - leftY) * (x - leftX) / (rightX - leftX);
     }
 
+    public interface XColumn {
+        double get(long index);
+    }
+
+    // Двоичный поиск по count отсортированным значениям столбца.
+    // Возвращает индекс точки, совпадающей с x с точностью 1e-12,
+    // иначе -(floorIndex) - 2, где floorIndex - последний индекс с x[i] < x (-1, если такого нет).
+    public static long searchSorted(XColumn xValues, long count, double x) {
+        long low = 0;
+        long high = count - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            if (xValues.get(mid) <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        long floorIndex = high;
+        if (floorIndex >= 0 && x - xValues.get(floorIndex) < 1e-12) {
+            return floorIndex;
+        }
+        if (floorIndex + 1 < count && xValues.get(floorIndex + 1) - x < 1e-12) {
+            return floorIndex + 1;
+        }
+        return -floorIndex - 2;
+    }
+
     @Override
     public double apply(double x) {
-        log.debug("Вычисление функции для x = {}", x);
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.EVALUATIONS);
+        }
+        else {
+            log.debug("Вычисление функции для x = {}", x);
+        }
         if (x < leftBound()) {
-            log.debug("x < левой границы, экстраполяция слева");
+            if (HotPathLogging.QUIET) {
+                HotPathLogging.count(HotPathLogging.Counter.EXTRAPOLATIONS);
+            }
+            else {
+                log.debug("x < левой границы, экстраполяция слева");
+            }
             return extrapolateLeft(x);
         }
         else if (x > rightBound()) {
-            log.debug("x > правой границы, экстраполяция справа");
+            if (HotPathLogging.QUIET) {
+                HotPathLogging.count(HotPathLogging.Counter.EXTRAPOLATIONS);
+            }
+            else {
+                log.debug("x > правой границы, экстраполяция справа");
+            }
             return extrapolateRight(x);
         }
         else {
-            int index = indexOfX(x);
-            if (index != -1) {
-                log.debug("x найден в таблице, возвращаем соответствующее y");
+            int index = searchX(x);
+            if (index >= 0) {
+                if (HotPathLogging.QUIET) {
+                    HotPathLogging.count(HotPathLogging.Counter.EXACT_HITS);
+                }
+                else {
+                    log.debug("x найден в таблице, возвращаем соответствующее y");
+                }
                 return getY(index);
             }
             else {
-                int floorIndex = floorIndexOfX(x);
-                log.debug("x не найден, интерполяция с floor индексом {}", floorIndex);
+                int floorIndex = -index - 2;
+                if (HotPathLogging.QUIET) {
+                    HotPathLogging.count(HotPathLogging.Counter.INTERPOLATIONS);
+                }
+                else {
+                    log.debug("x не найден, интерполяция с floor индексом {}", floorIndex);
+                }
                 return interpolate(x, floorIndex);
             }
         }
     }
 
+    // Пакетное вычисление проходом по таблице вместе с запросами:
+    // для возрастающих x интервал сдвигается вперёд, при далёком скачке
+    // или шаге назад интервал находится поиском. Результат совпадает с apply.
+    @Override
+    public void applyAll(double[] xs, double[] out, int from, int to) {
+        log.debug("Пакетное вычисление функции для {} точек", to - from);
+        int count = getCount();
+        double left = leftBound();
+        double right = rightBound();
+        int floor = 0;
+        double floorX = getX(0);
+        double floorY = getY(0);
+        double nextX = getX(1);
+        double nextY = getY(1);
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            if (x < left) {
+                out[i] = extrapolateLeft(x);
+                continue;
+            }
+            if (x > right) {
+                out[i] = extrapolateRight(x);
+                continue;
+            }
+            int steps = 0;
+            while (floor < count - 2 && nextX <= x && steps < MERGE_WALK_STEPS) {
+                floor++;
+                floorX = nextX;
+                floorY = nextY;
+                nextX = getX(floor + 1);
+                nextY = getY(floor + 1);
+                steps++;
+            }
+            if (x < floorX || (floor < count - 2 && nextX <= x)) {
+                int index = searchX(x);
+                floor = Math.min(index >= 0 ? index : -index - 2, count - 2);
+                floorX = getX(floor);
+                floorY = getY(floor);
+                nextX = getX(floor + 1);
+                nextY = getY(floor + 1);
+            }
+            if (x - floorX < 1e-12) {
+                out[i] = floorY;
+            }
+            else if (nextX - x < 1e-12) {
+                out[i] = nextY;
+            }
+            else {
+                out[i] = interpolate(x, floorX, nextX, floorY, nextY);
+            }
+        }
+    }
+
+    // Поиск x внутри [leftBound(), rightBound()] за один проход.
+    // Возвращает индекс точки, если x есть в таблице, иначе -(floorIndex) - 2,
+    // т.е. -(точка вставки) - 1, как в Arrays.binarySearch.
+    protected int searchX(double x) {
+        if (uniform) {
+            return uniformSearchX(x);
+        }
+        int index = indexOfX(x);
+        if (index != -1) {
+            return index;
+        }
+        return -floorIndexOfX(x) - 2;
+    }
+
+    protected void markUniform(double start, double step) {
+        uniform = step > 0;
+        gridStart = start;
+        gridStep = step;
+    }
+
+    public boolean isUniform() {
+        return uniform;
+    }
+
+    // То же, что searchX, но интервал находится арифметически по шагу сетки.
+    protected int uniformSearchX(double x) {
+        double position = (x - gridStart) / gridStep;
+        int floorIndex;
+        if (position < 0) {
+            floorIndex = -1;
+        }
+        else if (position >= count - 1) {
+            floorIndex = count - 1;
+        }
+        else {
+            floorIndex = (int) position;
+        }
+        // поправка на погрешность деления
+        while (floorIndex >= 0 && gridStart + floorIndex * gridStep > x) {
+            floorIndex--;
+        }
+        while (floorIndex + 1 < count && gridStart + (floorIndex + 1) * gridStep <= x) {
+            floorIndex++;
+        }
+        if (floorIndex >= 0 && x - (gridStart + floorIndex * gridStep) < 1e-12) {
+            return floorIndex;
+        }
+        if (floorIndex + 1 < count && gridStart + (floorIndex + 1) * gridStep - x < 1e-12) {
+            return floorIndex + 1;
+        }
+        return -floorIndex - 2;
+    }
+
     public static void checkLengthIsTheSame(double[] xValues, double[] yValues) {
         if (xValues.length != yValues.length) {
             log.error("Длины массивов X и Y не совпадают: {} != {}", xValues.length, yValues.length);
@@ -57,11 +233,19 @@ public abstract class AbstractTabulatedFunction implements TabulatedFunction, Se
     public static void checkSorted(double[] xValues) {
         for (int i = 0; i < xValues.length - 1; ++i) {
             if (xValues[i] >= xValues[i + 1]) {
-                log.error("Массив X не отсортирован: x[{}] = {} <= x[{}] = {}", i-1, xValues[i-1], i, xValues[i]);
+                log.error("Массив X не отсортирован: x[{}] = {} >= x[{}] = {}", i, xValues[i], i + 1, xValues[i + 1]);
                 throw new ArrayIsNotSortedException("The array " + "is not sorted in ascending order");
             }
         }
     }
+
+    public static void checkRange(int count, int fromIndex, int length) {
+        if (fromIndex < 0 || length < 0 || fromIndex > count - length) {
+            log.error("Неверный диапазон: [{}, {}), размер: {}", fromIndex, fromIndex + length, count);
+            throw new IllegalArgumentException("Range: [" + fromIndex + ", " + (fromIndex + length) + "), Size: " + count);
+        }
+    }
+
     @Override
     public String toString(){
         String resultString;
@@ -2,21 +2,41 @@ package functions;
 
 import exceptions.InterpolationException;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
     private static final long serialVersionUID = -2939010482140999734L;
 
+    private static final int MIN_CAPACITY = 8;
+    // CAS элемента double[] сравнивает значения побитно, поэтому работает и для NaN
+    private static final VarHandle Y_HANDLE = MethodHandles.arrayElementVarHandle(double[].class);
+
     private double[] xValues;
     private double[] yValues;
 
     public ArrayTabulatedFunction(double[] xValues, double[] yValues) {
+        this(xValues, yValues, true);
+    }
+
+    // Функция поверх переданных массивов без защитной копии: вызывающий больше не должен их изменять
+    public static ArrayTabulatedFunction wrap(double[] xValues, double[] yValues) {
+        return new ArrayTabulatedFunction(xValues, yValues, false);
+    }
+
+    private ArrayTabulatedFunction(double[] xValues, double[] yValues, boolean copy) {
         log.debug("Создание ArrayTabulatedFunction из массивов, размер: {}", xValues.length);
         if (xValues.length < 2){
             log.error("Недостаточно точек для создания функции: {}", xValues.length);
@@ -26,8 +46,8 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         checkLengthIsTheSame(xValues, yValues);
         checkSorted(xValues);
 
-        this.xValues = Arrays.copyOf(xValues, xValues.length);
-        this.yValues = Arrays.copyOf(yValues, yValues.length);
+        this.xValues = copy ? Arrays.copyOf(xValues, xValues.length) : xValues;
+        this.yValues = copy ? Arrays.copyOf(yValues, yValues.length) : yValues;
         this.count = xValues.length;
         log.info("ArrayTabulatedFunction создан успешно, {} точек, диапазон [{}, {}]", count, xValues[0], xValues[count-1]);
     }
@@ -56,6 +76,7 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
             this.xValues[i] = xStart + i * step;
             this.yValues[i] = source.apply(xValues[i]);
         }
+        markUniform(xStart, step);
         log.info("ArrayTabulatedFunction создан из функции, {} точек, диапазон [{}, {}]", count, xStart, xEnd);
     }
 
@@ -63,6 +84,11 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         return count;
     }
 
+    @Override
+    public boolean hasPureReads() {
+        return true;
+    }
+
     public double getX(int index) {
         if (index < 0 || index >= count) {
             log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
@@ -80,7 +106,12 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
     }
 
     public void setY(int index, double value) {
-        log.debug("Установка Y[{}] = {}", index, value);
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.WRITES);
+        }
+        else {
+            log.debug("Установка Y[{}] = {}", index, value);
+        }
         if (index < 0 || index >= count) {
             log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
             throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
@@ -88,12 +119,44 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         yValues[index] = value;
     }
 
+    // Атомарные операции над одним значением Y без блокировок.
+    // Согласованы между собой, но не со структурными изменениями (insert, remove),
+    // которые по-прежнему требуют внешней синхронизации.
+
+    public boolean compareAndSetY(int index, double expectedValue, double newValue) {
+        if (index < 0 || index >= count) {
+            log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        return Y_HANDLE.compareAndSet(yValues, index, expectedValue, newValue);
+    }
+
+    public double updateY(int index, DoubleUnaryOperator operator) {
+        if (index < 0 || index >= count) {
+            log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        double[] values = yValues;
+        double previous;
+        double next;
+        do {
+            previous = (double) Y_HANDLE.getVolatile(values, index);
+            next = operator.applyAsDouble(previous);
+        } while (!Y_HANDLE.weakCompareAndSet(values, index, previous, next));
+        return next;
+    }
+
+    public double accumulateY(int index, double value, DoubleBinaryOperator accumulator) {
+        return updateY(index, y -> accumulator.applyAsDouble(y, value));
+    }
+
     public int indexOfX(double x) {
-        for (int i = 0; i < count; ++i) {
-            if (Math.abs(xValues[i] - x) < 1e-12) {
-                log.debug("Найден индекс {} для X = {}", i, x);
-                return i;
+        int index = searchX(x);
+        if (index >= 0) {
+            if (!HotPathLogging.QUIET) {
+                log.debug("Найден индекс {} для X = {}", index, x);
             }
+            return index;
         }
         return -1;
     }
@@ -101,7 +164,9 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
     public int indexOfY(double y) {
         for (int i = 0; i < count; ++i) {
             if (Math.abs(yValues[i] - y) < 1e-12) {
-                log.debug("Найден индекс {} для Y = {}", i, y);
+                if (!HotPathLogging.QUIET) {
+                    log.debug("Найден индекс {} для Y = {}", i, y);
+                }
                 return i;
             }
         }
@@ -125,32 +190,56 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         }
 
         if (x > xValues[count - 1]) {
-            log.debug("X = {} больше правой границы, возвращаем {}", x, count);
+            if (!HotPathLogging.QUIET) {
+                log.debug("X = {} больше правой границы, возвращаем {}", x, count);
+            }
             return count;
         }
 
-        for (int i = 0; i < count - 1; i++) {
-            if (xValues[i] < x && x < xValues[i + 1]) {
-                log.debug("Найден floor индекс {} для X = {}", i, x);
-                return i;
-            }
+        int index = searchX(x);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        else if (xValues[index] == x) {
+            return -1;
         }
+        else if (xValues[index] > x) {
+            index--;
+        }
+        if (!HotPathLogging.QUIET) {
+            log.debug("Найден floor индекс {} для X = {}", index, x);
+        }
+        return index;
+    }
 
-        return -1;
+    // Двоичный поиск по отсортированному xValues, см. searchSorted
+    @Override
+    protected int searchX(double x) {
+        if (uniform) {
+            return uniformSearchX(x);
+        }
+        double[] values = xValues;
+        return (int) searchSorted(index -> values[(int) index], count, x);
     }
 
     public double extrapolateLeft(double x) {
-        log.debug("Экстраполяция слева для X = {}", x);
+        if (!HotPathLogging.QUIET) {
+            log.debug("Экстраполяция слева для X = {}", x);
+        }
         return interpolate(x, xValues[0], xValues[1], yValues[0], yValues[1]);
     }
 
     public double extrapolateRight(double x) {
-        log.debug("Экстраполяция справа для X = {}", x);
+        if (!HotPathLogging.QUIET) {
+            log.debug("Экстраполяция справа для X = {}", x);
+        }
         return interpolate(x, xValues[count - 2], xValues[count - 1], yValues[count - 2], yValues[count - 1]);
     }
 
     public double interpolate(double x, int floorIndex) {
-        log.debug("Интерполяция для X = {} с floor индексом {}", x, floorIndex);
+        if (!HotPathLogging.QUIET) {
+            log.debug("Интерполяция для X = {} с floor индексом {}", x, floorIndex);
+        }
         if (x < xValues[floorIndex] || x > xValues[floorIndex + 1]) {
             log.error("X = {} вне интервала интерполяции [{}, {}]", x, xValues[floorIndex], xValues[floorIndex + 1]);
             throw new InterpolationException("X is outside the interpolation interval");
@@ -163,29 +252,21 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
     @Override
     public void insert(double x, double y){
         log.debug("Вставка точки: x = {}, y = {}", x, y);
-        int insertIndex = 0;
-        while (insertIndex < count && xValues[insertIndex] <= x) {
-            if (Math.abs(xValues[insertIndex] - x) <= 1e-12){
-                log.debug("Найдена существующая точка, обновление Y");
-                yValues[insertIndex] = y;
-                return;
-            }
-            if (xValues[insertIndex] < x) {
-                insertIndex++;
-            }
+        int insertIndex = searchX(x);
+        if (insertIndex >= 0) {
+            log.debug("Найдена существующая точка, обновление Y");
+            yValues[insertIndex] = y;
+            return;
         }
+        insertIndex = -insertIndex - 1;
         log.debug("Вставка новой точки на позицию {}", insertIndex);
-        double[] newXValues = new double[count + 1];
-        double[] newYValues = new double[count + 1];
-        System.arraycopy(xValues, 0, newXValues, 0, insertIndex);
-        System.arraycopy(yValues, 0, newYValues, 0, insertIndex);
-        newXValues[insertIndex] = x;
-        newYValues[insertIndex] = y;
-        System.arraycopy(xValues, insertIndex, newXValues, insertIndex + 1, count - insertIndex);
-        System.arraycopy(yValues, insertIndex, newYValues, insertIndex + 1, count - insertIndex);
-        xValues = newXValues;
-        yValues = newYValues;
+        ensureCapacity(count + 1);
+        System.arraycopy(xValues, insertIndex, xValues, insertIndex + 1, count - insertIndex);
+        System.arraycopy(yValues, insertIndex, yValues, insertIndex + 1, count - insertIndex);
+        xValues[insertIndex] = x;
+        yValues[insertIndex] = y;
         count++;
+        uniform = false;
         log.info("Точка вставлена на позицию {}, новый размер: {}", insertIndex, count);
     }
 
@@ -199,9 +280,175 @@ public class ArrayTabulatedFunction extends AbstractTabulatedFunction implements
         System.arraycopy(xValues, index + 1, xValues, index, count - index - 1);
         System.arraycopy(yValues, index + 1, yValues, index, count - index - 1);
         count--;
+        // удаление последней точки не нарушает шаг сетки
+        uniform = uniform && index == count;
+        shrinkIfSparse();
         log.info("Точка с индексом {} удалена, новый размер: {}", index, count);
     }
 
+    // Слияние за один проход: сначала считаем совпадающие x,
+    // затем сливаем с конца на месте, не затирая ещё не перенесённые точки.
+    @Override
+    public void insertAll(double[] xValues, double[] yValues) {
+        log.debug("Вставка пачки из {} точек", xValues.length);
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+        int batchSize = xValues.length;
+        int i = 0;
+        int j = 0;
+        int duplicates = 0;
+        while (i < count && j < batchSize) {
+            double difference = this.xValues[i] - xValues[j];
+            if (Math.abs(difference) < 1e-12) {
+                duplicates++;
+                i++;
+                j++;
+            }
+            else if (difference < 0) {
+                i++;
+            }
+            else {
+                j++;
+            }
+        }
+        int newCount = count + batchSize - duplicates;
+        ensureCapacity(newCount);
+        i = count - 1;
+        j = batchSize - 1;
+        for (int k = newCount - 1; j >= 0; k--) {
+            if (i >= 0 && Math.abs(this.xValues[i] - xValues[j]) < 1e-12) {
+                this.xValues[k] = this.xValues[i];
+                this.yValues[k] = yValues[j];
+                i--;
+                j--;
+            }
+            else if (i >= 0 && this.xValues[i] > xValues[j]) {
+                this.xValues[k] = this.xValues[i];
+                this.yValues[k] = this.yValues[i];
+                i--;
+            }
+            else {
+                this.xValues[k] = xValues[j];
+                this.yValues[k] = yValues[j];
+                j--;
+            }
+        }
+        if (newCount != count) {
+            uniform = false;
+        }
+        count = newCount;
+        log.info("Вставлено {} новых точек, обновлено {}, новый размер: {}", batchSize - duplicates, duplicates, count);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        log.debug("Удаление точек с индексами [{}, {})", fromIndex, toIndex);
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            log.error("Неверный диапазон для удаления: [{}, {}), размер: {}", fromIndex, toIndex, count);
+            throw new IllegalArgumentException("Range: [" + fromIndex + ", " + toIndex + "), Size: " + count);
+        }
+        System.arraycopy(xValues, toIndex, xValues, fromIndex, count - toIndex);
+        System.arraycopy(yValues, toIndex, yValues, fromIndex, count - toIndex);
+        // удаление хвоста не нарушает шаг сетки
+        uniform = uniform && toIndex == count;
+        count -= toIndex - fromIndex;
+        shrinkIfSparse();
+        log.info("Удалено {} точек, новый размер: {}", toIndex - fromIndex, count);
+    }
+
+    @Override
+    public int removeIf(PointPredicate predicate) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (!predicate.test(xValues[i], yValues[i])) {
+                xValues[kept] = xValues[i];
+                yValues[kept] = yValues[i];
+                kept++;
+            }
+        }
+        int removed = count - kept;
+        if (removed > 0) {
+            uniform = false;
+            count = kept;
+            shrinkIfSparse();
+        }
+        log.info("Удалено {} точек по условию, новый размер: {}", removed, count);
+        return removed;
+    }
+
+    // Ёмкость массивов; точки занимают первые count ячеек
+    public int getCapacity() {
+        return xValues.length;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > xValues.length) {
+            int newCapacity = xValues.length + (xValues.length >> 1);
+            if (newCapacity - minCapacity < 0) {
+                newCapacity = minCapacity;
+            }
+            resize(newCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (count < xValues.length) {
+            resize(count);
+        }
+    }
+
+    private void shrinkIfSparse() {
+        if (count < xValues.length / 4 && xValues.length > MIN_CAPACITY) {
+            resize(Math.max(count * 2, MIN_CAPACITY));
+        }
+    }
+
+    private void resize(int capacity) {
+        log.debug("Изменение ёмкости массивов: {} -> {}", xValues.length, capacity);
+        xValues = Arrays.copyOf(xValues, capacity);
+        yValues = Arrays.copyOf(yValues, capacity);
+    }
+
+    // В поток пишутся только занятые ячейки, формат полей не меняется
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("xValues", Arrays.copyOf(xValues, count));
+        fields.put("yValues", Arrays.copyOf(yValues, count));
+        out.writeFields();
+    }
+
+    @Override
+    public void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        checkRange(count, fromIndex, length);
+        System.arraycopy(xValues, fromIndex, target, targetOffset, length);
+    }
+
+    @Override
+    public void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        checkRange(count, fromIndex, length);
+        System.arraycopy(yValues, fromIndex, target, targetOffset, length);
+    }
+
+    @Override
+    public void copyXValues(int fromIndex, DoubleBuffer target, int length) {
+        checkRange(count, fromIndex, length);
+        target.put(xValues, fromIndex, length);
+    }
+
+    @Override
+    public void copyYValues(int fromIndex, DoubleBuffer target, int length) {
+        checkRange(count, fromIndex, length);
+        target.put(yValues, fromIndex, length);
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(xValues[i], yValues[i]);
+        }
+    }
+
     @Override
     public Iterator<Point> iterator() {
         return new Iterator<Point>() {
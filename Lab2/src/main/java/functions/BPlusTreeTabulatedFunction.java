@@ -0,0 +1,742 @@
+package functions;
+
+import exceptions.InterpolationException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.extern.slf4j.Slf4j;
+
+// Табулированная функция на B+-дереве с ключом x.
+// Листья хранят точки в массивах double и связаны в список, внутренние узлы
+// помнят минимальный x и число точек каждого поддерева, поэтому поиск по x,
+// доступ по индексу, вставка и удаление выполняются за O(log n).
+@Slf4j
+public class BPlusTreeTabulatedFunction extends AbstractTabulatedFunction implements Insertable, Removable, Serializable {
+    @Serial
+    private static final long serialVersionUID = 4417683201596925480L;
+
+    private static final int LEAF_CAPACITY = 64;
+    private static final int INNER_CAPACITY = 64;
+    private static final int LEAF_MIN = LEAF_CAPACITY / 2;
+    private static final int INNER_MIN = INNER_CAPACITY / 2;
+
+    private abstract static class Node {
+        public int size;
+        public abstract double minX();
+    }
+
+    private static final class Leaf extends Node {
+        public final double[] xValues = new double[LEAF_CAPACITY];
+        public final double[] yValues = new double[LEAF_CAPACITY];
+        public Leaf prev;
+        public Leaf next;
+
+        @Override
+        public double minX() {
+            return xValues[0];
+        }
+
+        // Первый индекс с xValues[i] > x
+        public int upperBound(double x) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (xValues[mid] <= x) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class Inner extends Node {
+        public final Node[] children = new Node[INNER_CAPACITY];
+        // минимальный x и число точек поддерева children[i]
+        public final double[] keys = new double[INNER_CAPACITY];
+        public final int[] counts = new int[INNER_CAPACITY];
+
+        @Override
+        public double minX() {
+            return keys[0];
+        }
+
+        // Последний потомок с keys[i] <= x (или первый, если x левее всех)
+        public int childIndex(double x) {
+            int low = 1;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] <= x) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+    }
+
+    private static final class Position {
+        public final Leaf leaf;
+        public final int offset;
+
+        public Position(Leaf leaf, int offset) {
+            this.leaf = leaf;
+            this.offset = offset;
+        }
+    }
+
+    // Дерево не сериализуется напрямую: в поток пишутся точки, при чтении дерево строится заново
+    private transient Node root;
+    private transient Leaf first;
+    private transient Leaf last;
+
+    public BPlusTreeTabulatedFunction(double[] xValues, double[] yValues) {
+        log.debug("Создание BPlusTreeTabulatedFunction из массивов, размер: {}", xValues.length);
+        if (xValues.length < 2){
+            log.error("Недостаточно точек для создания функции: {}", xValues.length);
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+
+        build(xValues, yValues, xValues.length);
+        log.info("BPlusTreeTabulatedFunction создан успешно, {} точек, диапазон [{}, {}]", count, leftBound(), rightBound());
+    }
+
+    public BPlusTreeTabulatedFunction(MathFunction source, double xFrom, double xTo, int count) {
+        log.debug("Создание BPlusTreeTabulatedFunction из функции {}, диапазон [{}, {}], {} точек", source.getClass().getSimpleName(), xFrom, xTo, count);
+        if (count < 2){
+            log.error("Недостаточно точек для создания функции: {}", count);
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        double xStart = Math.min(xFrom, xTo);
+        double xEnd = Math.max(xFrom, xTo);
+        double step = (xEnd - xStart) / (count - 1);
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; ++i) {
+            xValues[i] = xStart + i * step;
+            yValues[i] = source.apply(xValues[i]);
+        }
+        build(xValues, yValues, count);
+        markUniform(xStart, step);
+        log.info("BPlusTreeTabulatedFunction создан из функции, {} точек, диапазон [{}, {}]", count, xStart, xEnd);
+    }
+
+    // Построение снизу вверх; точки и потомки делятся между узлами поровну,
+    // так что каждый узел, кроме корня, заполнен не меньше чем наполовину.
+    private void build(double[] xValues, double[] yValues, int n) {
+        count = n;
+        int leafCount = Math.max(1, (n + LEAF_CAPACITY - 1) / LEAF_CAPACITY);
+        Node[] level = new Node[leafCount];
+        int[] levelCounts = new int[leafCount];
+        Leaf previous = null;
+        for (int i = 0, from = 0; i < leafCount; i++) {
+            int size = (n - from) / (leafCount - i);
+            Leaf leaf = new Leaf();
+            System.arraycopy(xValues, from, leaf.xValues, 0, size);
+            System.arraycopy(yValues, from, leaf.yValues, 0, size);
+            leaf.size = size;
+            leaf.prev = previous;
+            if (previous != null) {
+                previous.next = leaf;
+            }
+            previous = leaf;
+            level[i] = leaf;
+            levelCounts[i] = size;
+            from += size;
+        }
+        first = (Leaf) level[0];
+        last = previous;
+        while (level.length > 1) {
+            int parentCount = (level.length + INNER_CAPACITY - 1) / INNER_CAPACITY;
+            Node[] parents = new Node[parentCount];
+            int[] parentCounts = new int[parentCount];
+            for (int i = 0, from = 0; i < parentCount; i++) {
+                int size = (level.length - from) / (parentCount - i);
+                Inner inner = new Inner();
+                for (int k = 0; k < size; k++) {
+                    inner.children[k] = level[from + k];
+                    inner.keys[k] = level[from + k].minX();
+                    inner.counts[k] = levelCounts[from + k];
+                    parentCounts[i] += levelCounts[from + k];
+                }
+                inner.size = size;
+                parents[i] = inner;
+                from += size;
+            }
+            level = parents;
+            levelCounts = parentCounts;
+        }
+        root = level[0];
+    }
+
+    private static int countOf(Node node) {
+        if (node instanceof Inner inner) {
+            int total = 0;
+            for (int i = 0; i < inner.size; i++) {
+                total += inner.counts[i];
+            }
+            return total;
+        }
+        return node.size;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+    }
+
+    // Спуск по числу точек в поддеревьях
+    private Position positionOf(int index) {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            int i = 0;
+            while (index >= inner.counts[i]) {
+                index -= inner.counts[i];
+                i++;
+            }
+            node = inner.children[i];
+        }
+        return new Position((Leaf) node, index);
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean hasPureReads() {
+        return true;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        Position position = positionOf(index);
+        return position.leaf.xValues[position.offset];
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        Position position = positionOf(index);
+        return position.leaf.yValues[position.offset];
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.WRITES);
+        }
+        else {
+            log.debug("Установка Y[{}] = {}", index, value);
+        }
+        checkIndex(index);
+        Position position = positionOf(index);
+        position.leaf.yValues[position.offset] = value;
+    }
+
+    // Спуск по x с подсчётом индекса; кодировка результата как в AbstractTabulatedFunction.searchX
+    @Override
+    protected int searchX(double x) {
+        if (uniform) {
+            return uniformSearchX(x);
+        }
+        if (count == 0) {
+            return -1;
+        }
+        Node node = root;
+        int rank = 0;
+        while (node instanceof Inner inner) {
+            int i = inner.childIndex(x);
+            for (int k = 0; k < i; k++) {
+                rank += inner.counts[k];
+            }
+            node = inner.children[i];
+        }
+        Leaf leaf = (Leaf) node;
+        int offset = leaf.upperBound(x) - 1;
+        int floorIndex = rank + offset;
+        if (offset >= 0 && x - leaf.xValues[offset] < 1e-12) {
+            return floorIndex;
+        }
+        if (offset + 1 < leaf.size) {
+            if (leaf.xValues[offset + 1] - x < 1e-12) {
+                return floorIndex + 1;
+            }
+        }
+        else if (leaf.next != null && leaf.next.xValues[0] - x < 1e-12) {
+            return floorIndex + 1;
+        }
+        return -floorIndex - 2;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = searchX(x);
+        if (index >= 0) {
+            if (!HotPathLogging.QUIET) {
+                log.debug("Найден индекс {} для X = {}", index, x);
+            }
+            return index;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        int index = 0;
+        for (Leaf leaf = first; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++, index++) {
+                if (Math.abs(leaf.yValues[i] - y) < 1e-12) {
+                    if (!HotPathLogging.QUIET) {
+                        log.debug("Найден индекс {} для Y = {}", index, y);
+                    }
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return first.xValues[0];
+    }
+
+    @Override
+    public double rightBound() {
+        return last.xValues[last.size - 1];
+    }
+
+    // Семантика как в ArrayTabulatedFunction.floorIndexOfX
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()){
+            log.error("X = {} меньше левой границы {}", x, leftBound());
+            throw new IllegalArgumentException("The value is less than the left bound");
+        }
+        if (x > rightBound()) {
+            if (!HotPathLogging.QUIET) {
+                log.debug("X = {} больше правой границы, возвращаем {}", x, count);
+            }
+            return count;
+        }
+        int index = searchX(x);
+        if (index < 0) {
+            return -index - 2;
+        }
+        double found = getX(index);
+        if (found == x) {
+            return -1;
+        }
+        return found > x ? index - 1 : index;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        if (!HotPathLogging.QUIET) {
+            log.debug("Экстраполяция слева для X = {}", x);
+        }
+        return interpolate(x, getX(0), getX(1), getY(0), getY(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        if (!HotPathLogging.QUIET) {
+            log.debug("Экстраполяция справа для X = {}", x);
+        }
+        return interpolate(x, getX(count - 2), getX(count - 1), getY(count - 2), getY(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (!HotPathLogging.QUIET) {
+            log.debug("Интерполяция для X = {} с floor индексом {}", x, floorIndex);
+        }
+        Position position = positionOf(floorIndex);
+        Leaf leftLeaf = position.leaf;
+        int leftOffset = position.offset;
+        Leaf rightLeaf = leftLeaf;
+        int rightOffset = leftOffset + 1;
+        if (rightOffset == leftLeaf.size) {
+            rightLeaf = leftLeaf.next;
+            rightOffset = 0;
+        }
+        double leftX = leftLeaf.xValues[leftOffset];
+        double rightX = rightLeaf.xValues[rightOffset];
+        if (x < leftX || x > rightX) {
+            log.error("X = {} вне интервала интерполяции [{}, {}]", x, leftX, rightX);
+            throw new InterpolationException("X is outside the interpolation interval");
+        }
+        return interpolate(x, leftX, rightX, leftLeaf.yValues[leftOffset], rightLeaf.yValues[rightOffset]);
+    }
+
+    @Override
+    public void insert(double x, double y) {
+        log.debug("Вставка точки в B+-дерево: x = {}, y = {}", x, y);
+        int index = searchX(x);
+        if (index >= 0) {
+            log.debug("Точка с X = {} уже существует, обновление Y", x);
+            Position position = positionOf(index);
+            position.leaf.yValues[position.offset] = y;
+            return;
+        }
+        Node split = insertInto(root, x, y);
+        if (split != null) {
+            Inner newRoot = new Inner();
+            newRoot.children[0] = root;
+            newRoot.keys[0] = root.minX();
+            newRoot.counts[0] = countOf(root);
+            newRoot.children[1] = split;
+            newRoot.keys[1] = split.minX();
+            newRoot.counts[1] = countOf(split);
+            newRoot.size = 2;
+            root = newRoot;
+            log.debug("Корень разделён, высота дерева увеличена");
+        }
+        count++;
+        uniform = false;
+        log.info("Точка вставлена, новый размер: {}", count);
+    }
+
+    // Вставляет новую точку в поддерево; возвращает правую половину, если узел разделился
+    private Node insertInto(Node node, double x, double y) {
+        if (node instanceof Leaf leaf) {
+            int position = leaf.upperBound(x);
+            if (leaf.size < LEAF_CAPACITY) {
+                insertPoint(leaf, position, x, y);
+                return null;
+            }
+            Leaf right = new Leaf();
+            int half = LEAF_CAPACITY / 2;
+            System.arraycopy(leaf.xValues, half, right.xValues, 0, LEAF_CAPACITY - half);
+            System.arraycopy(leaf.yValues, half, right.yValues, 0, LEAF_CAPACITY - half);
+            right.size = LEAF_CAPACITY - half;
+            leaf.size = half;
+            right.next = leaf.next;
+            if (right.next != null) {
+                right.next.prev = right;
+            }
+            else {
+                last = right;
+            }
+            right.prev = leaf;
+            leaf.next = right;
+            if (position <= half) {
+                insertPoint(leaf, position, x, y);
+            }
+            else {
+                insertPoint(right, position - half, x, y);
+            }
+            return right;
+        }
+        Inner inner = (Inner) node;
+        int i = inner.childIndex(x);
+        Node child = inner.children[i];
+        Node split = insertInto(child, x, y);
+        if (x < inner.keys[i]) {
+            inner.keys[i] = x;
+        }
+        if (split == null) {
+            inner.counts[i]++;
+            return null;
+        }
+        inner.counts[i] = countOf(child);
+        int splitCount = countOf(split);
+        if (inner.size < INNER_CAPACITY) {
+            insertChild(inner, i + 1, split, splitCount);
+            return null;
+        }
+        Inner right = new Inner();
+        int half = INNER_CAPACITY / 2;
+        moveChildren(inner, half, right, 0, INNER_CAPACITY - half);
+        right.size = INNER_CAPACITY - half;
+        inner.size = half;
+        if (i + 1 <= half) {
+            insertChild(inner, i + 1, split, splitCount);
+        }
+        else {
+            insertChild(right, i + 1 - half, split, splitCount);
+        }
+        return right;
+    }
+
+    private static void insertPoint(Leaf leaf, int position, double x, double y) {
+        System.arraycopy(leaf.xValues, position, leaf.xValues, position + 1, leaf.size - position);
+        System.arraycopy(leaf.yValues, position, leaf.yValues, position + 1, leaf.size - position);
+        leaf.xValues[position] = x;
+        leaf.yValues[position] = y;
+        leaf.size++;
+    }
+
+    private static void insertChild(Inner inner, int position, Node child, int childCount) {
+        moveChildren(inner, position, inner, position + 1, inner.size - position);
+        inner.children[position] = child;
+        inner.keys[position] = child.minX();
+        inner.counts[position] = childCount;
+        inner.size++;
+    }
+
+    private static void removeChild(Inner inner, int position) {
+        moveChildren(inner, position + 1, inner, position, inner.size - position - 1);
+        inner.size--;
+        inner.children[inner.size] = null;
+    }
+
+    private static void moveChildren(Inner source, int from, Inner target, int to, int length) {
+        System.arraycopy(source.children, from, target.children, to, length);
+        System.arraycopy(source.keys, from, target.keys, to, length);
+        System.arraycopy(source.counts, from, target.counts, to, length);
+        if (source != target) {
+            for (int i = from; i < from + length; i++) {
+                source.children[i] = null;
+            }
+        }
+    }
+
+    @Override
+    public void remove(int index) {
+        log.debug("Удаление точки с индексом {}", index);
+        if (index < 0 || index >= count) {
+            log.error("Неверный индекс для удаления: {}, размер: {}", index, count);
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+        removeAt(root, index);
+        count--;
+        if (root instanceof Inner inner && inner.size == 1) {
+            root = inner.children[0];
+            log.debug("Корень с одним потомком удалён, высота дерева уменьшена");
+        }
+        // удаление последней точки не нарушает шаг сетки
+        uniform = uniform && index == count;
+        log.info("Точка с индексом {} удалена, новый размер: {}", index, count);
+    }
+
+    private void removeAt(Node node, int index) {
+        if (node instanceof Leaf leaf) {
+            System.arraycopy(leaf.xValues, index + 1, leaf.xValues, index, leaf.size - index - 1);
+            System.arraycopy(leaf.yValues, index + 1, leaf.yValues, index, leaf.size - index - 1);
+            leaf.size--;
+            return;
+        }
+        Inner inner = (Inner) node;
+        int i = 0;
+        while (index >= inner.counts[i]) {
+            index -= inner.counts[i];
+            i++;
+        }
+        Node child = inner.children[i];
+        removeAt(child, index);
+        inner.counts[i]--;
+        if (child.size > 0) {
+            inner.keys[i] = child.minX();
+        }
+        int minSize = child instanceof Leaf ? LEAF_MIN : INNER_MIN;
+        if (child.size < minSize && inner.size > 1) {
+            rebalance(inner, i);
+        }
+    }
+
+    // Сливает недозаполненного потомка с соседом или делит их содержимое поровну
+    private void rebalance(Inner inner, int i) {
+        int leftIndex = i > 0 ? i - 1 : i;
+        Node left = inner.children[leftIndex];
+        Node right = inner.children[leftIndex + 1];
+        int capacity = left instanceof Leaf ? LEAF_CAPACITY : INNER_CAPACITY;
+        int total = left.size + right.size;
+        if (total <= capacity) {
+            if (left instanceof Leaf leftLeaf) {
+                Leaf rightLeaf = (Leaf) right;
+                System.arraycopy(rightLeaf.xValues, 0, leftLeaf.xValues, leftLeaf.size, rightLeaf.size);
+                System.arraycopy(rightLeaf.yValues, 0, leftLeaf.yValues, leftLeaf.size, rightLeaf.size);
+                leftLeaf.next = rightLeaf.next;
+                if (leftLeaf.next != null) {
+                    leftLeaf.next.prev = leftLeaf;
+                }
+                else {
+                    last = leftLeaf;
+                }
+            }
+            else {
+                moveChildren((Inner) right, 0, (Inner) left, left.size, right.size);
+            }
+            left.size = total;
+            inner.counts[leftIndex] += inner.counts[leftIndex + 1];
+            removeChild(inner, leftIndex + 1);
+        }
+        else {
+            int leftSize = total / 2;
+            if (left instanceof Leaf leftLeaf) {
+                Leaf rightLeaf = (Leaf) right;
+                if (leftLeaf.size > leftSize) {
+                    int moved = leftLeaf.size - leftSize;
+                    System.arraycopy(rightLeaf.xValues, 0, rightLeaf.xValues, moved, rightLeaf.size);
+                    System.arraycopy(rightLeaf.yValues, 0, rightLeaf.yValues, moved, rightLeaf.size);
+                    System.arraycopy(leftLeaf.xValues, leftSize, rightLeaf.xValues, 0, moved);
+                    System.arraycopy(leftLeaf.yValues, leftSize, rightLeaf.yValues, 0, moved);
+                }
+                else {
+                    int moved = leftSize - leftLeaf.size;
+                    System.arraycopy(rightLeaf.xValues, 0, leftLeaf.xValues, leftLeaf.size, moved);
+                    System.arraycopy(rightLeaf.yValues, 0, leftLeaf.yValues, leftLeaf.size, moved);
+                    System.arraycopy(rightLeaf.xValues, moved, rightLeaf.xValues, 0, rightLeaf.size - moved);
+                    System.arraycopy(rightLeaf.yValues, moved, rightLeaf.yValues, 0, rightLeaf.size - moved);
+                }
+            }
+            else {
+                Inner leftInner = (Inner) left;
+                Inner rightInner = (Inner) right;
+                if (leftInner.size > leftSize) {
+                    int moved = leftInner.size - leftSize;
+                    moveChildren(rightInner, 0, rightInner, moved, rightInner.size);
+                    moveChildren(leftInner, leftSize, rightInner, 0, moved);
+                }
+                else {
+                    int moved = leftSize - leftInner.size;
+                    moveChildren(rightInner, 0, leftInner, leftInner.size, moved);
+                    moveChildren(rightInner, moved, rightInner, 0, rightInner.size - moved);
+                    for (int k = rightInner.size - moved; k < rightInner.size; k++) {
+                        rightInner.children[k] = null;
+                    }
+                }
+            }
+            left.size = leftSize;
+            right.size = total - leftSize;
+            inner.counts[leftIndex] = countOf(left);
+            inner.counts[leftIndex + 1] = countOf(right);
+            inner.keys[leftIndex + 1] = right.minX();
+        }
+        inner.keys[leftIndex] = inner.children[leftIndex].minX();
+    }
+
+    @Override
+    public int removeIf(PointPredicate predicate) {
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        int kept = 0;
+        for (Leaf leaf = first; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                if (!predicate.test(leaf.xValues[i], leaf.yValues[i])) {
+                    xValues[kept] = leaf.xValues[i];
+                    yValues[kept] = leaf.yValues[i];
+                    kept++;
+                }
+            }
+        }
+        int removed = count - kept;
+        if (removed > 0) {
+            build(xValues, yValues, kept);
+            uniform = false;
+        }
+        log.info("Удалено {} точек по условию, новый размер: {}", removed, count);
+        return removed;
+    }
+
+    @Override
+    public void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        copyColumn(fromIndex, target, targetOffset, length, true);
+    }
+
+    @Override
+    public void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        copyColumn(fromIndex, target, targetOffset, length, false);
+    }
+
+    // Копирование кусками по листьям
+    private void copyColumn(int fromIndex, double[] target, int targetOffset, int length, boolean xColumn) {
+        checkRange(count, fromIndex, length);
+        if (length == 0) {
+            return;
+        }
+        Position position = positionOf(fromIndex);
+        Leaf leaf = position.leaf;
+        int offset = position.offset;
+        while (length > 0) {
+            int chunk = Math.min(length, leaf.size - offset);
+            System.arraycopy(xColumn ? leaf.xValues : leaf.yValues, offset, target, targetOffset, chunk);
+            targetOffset += chunk;
+            length -= chunk;
+            leaf = leaf.next;
+            offset = 0;
+        }
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer action) {
+        for (Leaf leaf = first; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                action.accept(leaf.xValues[i], leaf.yValues[i]);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private Leaf leaf = first;
+            private int offset = 0;
+            private int passed = 0;
+
+            @Override
+            public boolean hasNext() {
+                return passed < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    log.error("Попытка вызова next() когда элементов больше нет");
+                    throw new NoSuchElementException();
+                }
+                while (offset == leaf.size) {
+                    leaf = leaf.next;
+                    offset = 0;
+                }
+                Point point = new Point(leaf.xValues[offset], leaf.yValues[offset]);
+                offset++;
+                passed++;
+                return point;
+            }
+        };
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        for (Leaf leaf = first; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                out.writeDouble(leaf.xValues[i]);
+                out.writeDouble(leaf.yValues[i]);
+            }
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = in.readDouble();
+            yValues[i] = in.readDouble();
+        }
+        build(xValues, yValues, count);
+    }
+}
@@ -14,4 +14,10 @@ public class CompositeFunction implements MathFunction {
     public double apply(double x) {
         return secondFunction.apply(firstFunction.apply(x));
     }
+
+    @Override
+    public void applyAll(double[] xs, double[] out, int from, int to) {
+        firstFunction.applyAll(xs, out, from, to);
+        secondFunction.applyAll(out, out, from, to);
+    }
 }
@@ -0,0 +1,65 @@
+package functions;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+// Режим "тихого" горячего пути: -Dfunctions.quietHotPath=true.
+// Сообщения на каждый вызов apply, поиска, интерполяции, setY и обхода
+// не формируются вовсе, вместо них накапливаются счётчики.
+// QUIET - константа, поэтому JIT удаляет отключённую ветку целиком.
+@Slf4j
+public final class HotPathLogging {
+    public static final boolean QUIET = Boolean.getBoolean("functions.quietHotPath");
+
+    public enum Counter {
+        EVALUATIONS,
+        EXACT_HITS,
+        INTERPOLATIONS,
+        EXTRAPOLATIONS,
+        WRITES,
+        TRAVERSALS
+    }
+
+    private static final LongAdder[] COUNTERS = new LongAdder[Counter.values().length];
+
+    static {
+        for (int i = 0; i < COUNTERS.length; i++) {
+            COUNTERS[i] = new LongAdder();
+        }
+        if (QUIET) {
+            log.info("Включён тихий режим горячего пути, сводка будет выведена при завершении");
+            Runtime.getRuntime().addShutdownHook(new Thread(HotPathLogging::logSummary, "hot-path-summary"));
+        }
+    }
+
+    private HotPathLogging() {
+    }
+
+    public static void count(Counter counter) {
+        COUNTERS[counter.ordinal()].increment();
+    }
+
+    public static long get(Counter counter) {
+        return COUNTERS[counter.ordinal()].sum();
+    }
+
+    public static Map<Counter, Long> snapshot() {
+        Map<Counter, Long> snapshot = new EnumMap<>(Counter.class);
+        for (Counter counter : Counter.values()) {
+            snapshot.put(counter, get(counter));
+        }
+        return snapshot;
+    }
+
+    public static void reset() {
+        for (LongAdder counter : COUNTERS) {
+            counter.reset();
+        }
+    }
+
+    public static void logSummary() {
+        log.info("Сводка горячего пути: {}", snapshot());
+    }
+}
@@ -2,4 +2,14 @@ package functions;
 
 public interface Insertable {
     void insert(double x, double y);
+
+    // Вставка пачки точек, отсортированной по возрастанию x.
+    // Существующие x (с точностью 1e-12) получают новое значение y, как в insert.
+    default void insertAll(double[] xValues, double[] yValues) {
+        AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+        AbstractTabulatedFunction.checkSorted(xValues);
+        for (int i = 0; i < xValues.length; i++) {
+            insert(xValues[i], yValues[i]);
+        }
+    }
 }
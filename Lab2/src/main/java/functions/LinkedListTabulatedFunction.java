@@ -6,6 +6,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -24,7 +25,50 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             this.yValue = yValue;
         }
     }
+    // Индексный узел skip list над основным списком.
+    // span - на сколько позиций основного списка ведёт переход right.
+    private static class IndexNode {
+        public Node node;
+        public IndexNode right;
+        public IndexNode down;
+        public int span;
+        public IndexNode(Node node){
+            this.node = node;
+        }
+    }
+    // Вершина индекса вместе с числом уровней; публикуется только полностью построенной
+    private static class SkipIndex {
+        public final IndexNode head;
+        public final int levels;
+        public SkipIndex(IndexNode head, int levels){
+            this.head = head;
+            this.levels = levels;
+        }
+    }
+    // Курсор: последний найденный узел, его позиция и версия структуры списка.
+    // Неизменяемый, чтобы узел и позиция всегда читались согласованно.
+    // Курсор, записанный при другой версии, не используется: чтение, попавшее
+    // на незавершённую вставку или удаление, не может оставить после себя неверный курсор.
+    private static class Cursor {
+        public final Node node;
+        public final int index;
+        public final int version;
+        public Cursor(Node node, int index, int version){
+            this.node = node;
+            this.index = index;
+            this.version = version;
+        }
+    }
+    private static final int MAX_INDEX_LEVEL = 32;
+    // На сколько узлов можно пройти от курсора, прежде чем искать через индекс
+    private static final int CURSOR_WALK = 16;
     private Node head;
+    // Индекс не сериализуется и строится заново при первом обращении
+    private transient volatile SkipIndex skipIndex;
+    // Чтения только подменяют курсор целиком, поэтому одновременные чтения без записи безопасны.
+    // Версия увеличивается после завершения каждого структурного изменения.
+    private transient volatile Cursor cursor;
+    private transient volatile int structureVersion;
     private void addNode(double xValue, double yValue){
         Node newNode = new Node(xValue, yValue);
         if (head == null){
@@ -40,6 +84,8 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             head.prev = newNode;
         }
         count++;
+        skipIndex = null;
+        structureVersion++;
     }
     public LinkedListTabulatedFunction(double[] xValues, double[] yValues){
         log.debug("Создание LinkedListTabulatedFunction из массивов, размер: {}", xValues.length);
@@ -78,6 +124,7 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             double y = source.apply(x);
             addNode(x, y);
         }
+        markUniform(start, step);
         log.info("LinkedListTabulatedFunction создан из функции, {} точек, диапазон [{}, {}]", count, start, end);
     }
     private Node getNode(int index){
@@ -85,11 +132,239 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
             throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
         }
+        int version = structureVersion;
+        Cursor last = validCursor(version);
+        Node node;
+        if (last != null && Math.abs(index - last.index) <= CURSOR_WALK) {
+            node = last.node;
+            for (int i = last.index; i < index; i++) {
+                node = node.next;
+            }
+            for (int i = last.index; i > index; i--) {
+                node = node.prev;
+            }
+        }
+        else {
+            node = findNode(index, null, null);
+        }
+        if (last == null || last.node != node) {
+            cursor = new Cursor(node, index, version);
+        }
+        return node;
+    }
+    private Cursor validCursor(int version){
+        Cursor last = cursor;
+        return last != null && last.version == version ? last : null;
+    }
+    // Ищет последний узел с xValue <= x: сначала шагами от курсора, затем через индекс.
+    // Возвращает курсор на найденный узел или null, если x левее первого узла.
+    private Cursor findFloor(double x){
+        int version = structureVersion;
+        Cursor last = validCursor(version);
+        if (last != null) {
+            Node node = last.node;
+            int index = last.index;
+            int steps = 0;
+            while (steps < CURSOR_WALK && index + 1 < count && node.next.xValue <= x) {
+                node = node.next;
+                index++;
+                steps++;
+            }
+            while (steps < CURSOR_WALK && index > 0 && node.xValue > x) {
+                node = node.prev;
+                index--;
+                steps++;
+            }
+            if (index + 1 == count || node.next.xValue > x) {
+                if (node.xValue <= x) {
+                    if (node != last.node) {
+                        last = new Cursor(node, index, version);
+                        cursor = last;
+                    }
+                    return last;
+                }
+                if (index == 0) {
+                    return null;
+                }
+            }
+        }
+        SkipIndex skip = skipIndex;
+        if (skip == null) {
+            skip = buildIndex();
+        }
+        IndexNode current = skip.head;
+        int pos = -1;
+        while (true) {
+            while (current.right != null && current.right.node.xValue <= x) {
+                pos += current.span;
+                current = current.right;
+            }
+            if (current.down == null) {
+                break;
+            }
+            current = current.down;
+        }
+        Node node;
+        if (pos == -1) {
+            if (head.xValue > x) {
+                return null;
+            }
+            node = head;
+            pos = 0;
+        }
+        else {
+            node = current.node;
+        }
+        while (pos + 1 < count && node.next.xValue <= x) {
+            node = node.next;
+            pos++;
+        }
+        Cursor found = new Cursor(node, pos, version);
+        cursor = found;
+        return found;
+    }
+    // Строит сбалансированный индекс: узел с позицией p попадает на уровни 1..h,
+    // где 2^h делит p + 1. Индекс собирается в локальных переменных и публикуется
+    // через volatile последним шагом, поэтому параллельное чтение не видит его недостроенным.
+    private SkipIndex buildIndex(){
+        int levels = Math.max(1, 31 - Integer.numberOfLeadingZeros(Math.max(count, 1)));
+        IndexNode[] last = new IndexNode[levels + 1];
+        int[] lastPos = new int[levels + 1];
+        IndexNode below = null;
+        for (int level = 1; level <= levels; level++) {
+            last[level] = new IndexNode(null);
+            last[level].down = below;
+            lastPos[level] = -1;
+            below = last[level];
+        }
+        SkipIndex built = new SkipIndex(below, levels);
         Node current = head;
-        for (int i = 0; i < index; i++) {
+        for (int p = 0; p < count; p++) {
+            int height = Math.min(Integer.numberOfTrailingZeros(p + 1), levels);
+            below = null;
+            for (int level = 1; level <= height; level++) {
+                IndexNode indexNode = new IndexNode(current);
+                indexNode.down = below;
+                last[level].span = p - lastPos[level];
+                last[level].right = indexNode;
+                last[level] = indexNode;
+                lastPos[level] = p;
+                below = indexNode;
+            }
             current = current.next;
         }
-        return current;
+        skipIndex = built;
+        return built;
+    }
+    // Спуск по индексу к позиции index. Если path != null, на каждом уровне
+    // запоминается последний индексный узел левее index и его позиция.
+    private Node findNode(int index, IndexNode[] path, int[] pathPos){
+        SkipIndex skip = skipIndex;
+        if (skip == null) {
+            skip = buildIndex();
+        }
+        IndexNode current = skip.head;
+        int pos = -1;
+        for (int level = skip.levels; ; level--) {
+            while (current.right != null && pos + current.span < index) {
+                pos += current.span;
+                current = current.right;
+            }
+            if (path != null) {
+                path[level] = current;
+                pathPos[level] = pos;
+            }
+            if (current.down == null) {
+                break;
+            }
+            current = current.down;
+        }
+        if (path != null) {
+            return null;
+        }
+        Node node = pos == -1 ? head : current.node;
+        for (int i = Math.max(pos, 0); i < index; i++) {
+            node = node.next;
+        }
+        return node;
+    }
+    // Добавляет в индекс узел, уже вставленный в список на позицию index
+    // Курсор переносится на версию, которую получит список после вставки
+    private void indexInsert(Node node, int index){
+        Cursor last = validCursor(structureVersion);
+        if (last != null) {
+            cursor = new Cursor(last.node, last.index >= index ? last.index + 1 : last.index, structureVersion + 1);
+        }
+        SkipIndex skip = skipIndex;
+        if (skip == null) {
+            return;
+        }
+        IndexNode[] path = new IndexNode[MAX_INDEX_LEVEL + 1];
+        int[] pathPos = new int[MAX_INDEX_LEVEL + 1];
+        findNode(index, path, pathPos);
+        int height = Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_INDEX_LEVEL - 1)));
+        if (height > skip.levels) {
+            height = skip.levels + 1;
+            IndexNode newHead = new IndexNode(null);
+            newHead.down = skip.head;
+            skip = new SkipIndex(newHead, height);
+            skipIndex = skip;
+            path[height] = newHead;
+            pathPos[height] = -1;
+        }
+        IndexNode below = null;
+        for (int level = 1; level <= skip.levels; level++) {
+            IndexNode left = path[level];
+            if (level <= height) {
+                IndexNode indexNode = new IndexNode(node);
+                indexNode.down = below;
+                indexNode.right = left.right;
+                if (left.right != null) {
+                    indexNode.span = pathPos[level] + left.span + 1 - index;
+                }
+                left.right = indexNode;
+                left.span = index - pathPos[level];
+                below = indexNode;
+            }
+            else if (left.right != null) {
+                left.span++;
+            }
+        }
+    }
+    // Убирает из индекса узел с позицией index (до исключения его из списка)
+    private void indexRemove(int index){
+        Cursor last = validCursor(structureVersion);
+        if (last == null || last.index == index) {
+            cursor = null;
+        }
+        else {
+            cursor = new Cursor(last.node, last.index > index ? last.index - 1 : last.index, structureVersion + 1);
+        }
+        SkipIndex skip = skipIndex;
+        if (skip == null) {
+            return;
+        }
+        if (count == 1) {
+            skipIndex = null;
+            return;
+        }
+        IndexNode[] path = new IndexNode[MAX_INDEX_LEVEL + 1];
+        int[] pathPos = new int[MAX_INDEX_LEVEL + 1];
+        findNode(index, path, pathPos);
+        for (int level = 1; level <= skip.levels; level++) {
+            IndexNode left = path[level];
+            if (left.right == null) {
+                continue;
+            }
+            if (pathPos[level] + left.span == index) {
+                IndexNode removed = left.right;
+                left.right = removed.right;
+                left.span += removed.span - 1;
+            }
+            else {
+                left.span--;
+            }
+        }
     }
     @Override
     public double getX(int index){
@@ -109,7 +384,12 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
     }
     @Override
     public void setY(int index, double value){
-        log.debug("Установка Y[{}] = {}", index, value);
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.WRITES);
+        }
+        else {
+            log.debug("Установка Y[{}] = {}", index, value);
+        }
         if (index < 0 || index >= count) {
             log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
             throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
@@ -118,13 +398,13 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
     }
     @Override
     public int indexOfX(double x){
-        Node current = head;
-        for(int i = 0; i < count; i++){
-            if (Math.abs(current.xValue - x) < 1e-12) {
-                log.debug("Найден индекс {} для X = {}", i, x);
-                return i;
+        int index = searchX(x);
+        if (index >= 0) {
+            if (!HotPathLogging.QUIET) {
+                log.debug("Найден индекс {} для X = {}", index, x);
             }
-            current = current.next;}
+            return index;
+        }
         return -1;
     }
     @Override
@@ -132,7 +412,9 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         Node current = head;
         for(int i = 0; i < count; i++){
             if (Math.abs(current.yValue - y) < 1e-12) {
-                log.debug("Найден индекс {} для Y = {}", i, y);
+                if (!HotPathLogging.QUIET) {
+                    log.debug("Найден индекс {} для Y = {}", i, y);
+                }
                 return i;
             }
             current = current.next;
@@ -154,38 +436,65 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IllegalArgumentException("The value is less than the left bound");
         }
         if (x > head.prev.xValue){
-            log.debug("X = {} больше правой границы, возвращаем {}", x, count);
+            if (!HotPathLogging.QUIET) {
+                log.debug("X = {} больше правой границы, возвращаем {}", x, count);
+            }
             return count;
         }
-        Node current = head;
-        for (int i = 0; i < count - 1; i++){
-            if (current.xValue <= x && current.next.xValue > x){
-                log.debug("Найден floor индекс {} для X = {}", i, x);
-                return i;
+        if (uniform) {
+            int index = uniformSearchX(x);
+            if (index < 0) {
+                return -index - 2;
             }
-            current = current.next;
+            return x < gridStart + index * gridStep ? index - 1 : index;
         }
-        if (Math.abs(current.next.xValue - x) > 1e-12){
-            log.debug("X совпадает с последней точкой, возвращаем {}", count - 1);
-            return count - 1;
+        int index = findFloor(x).index;
+        if (!HotPathLogging.QUIET) {
+            log.debug("Найден floor индекс {} для X = {}", index, x);
         }
-        return -1;
+        return index;
+    }
+    @Override
+    protected int searchX(double x){
+        if (uniform) {
+            return uniformSearchX(x);
+        }
+        if (count == 0) {
+            return -1;
+        }
+        Cursor floor = findFloor(x);
+        if (floor == null) {
+            return head.xValue - x < 1e-12 ? 0 : -1;
+        }
+        if (x - floor.node.xValue < 1e-12) {
+            return floor.index;
+        }
+        if (floor.index + 1 < count && floor.node.next.xValue - x < 1e-12) {
+            return floor.index + 1;
+        }
+        return -floor.index - 2;
     }
     @Override
     protected double extrapolateLeft(double x){
-        log.debug("Экстраполяция слева для X = {}", x);
+        if (!HotPathLogging.QUIET) {
+            log.debug("Экстраполяция слева для X = {}", x);
+        }
         return interpolate(x, head.xValue, head.next.xValue, head.yValue, head.next.yValue);
     }
     @Override
     protected double extrapolateRight(double x){
-        log.debug("Экстраполяция справа для X = {}", x);
+        if (!HotPathLogging.QUIET) {
+            log.debug("Экстраполяция справа для X = {}", x);
+        }
         Node last = head.prev;
         Node secondLast = last.prev;
         return interpolate(x, secondLast.xValue, last.xValue, secondLast.yValue, last.yValue);
     }
     @Override
     protected double interpolate(double x, int floorIndex){
-        log.debug("Интерполяция для X = {} с floor индексом {}", x, floorIndex);
+        if (!HotPathLogging.QUIET) {
+            log.debug("Интерполяция для X = {} с floor индексом {}", x, floorIndex);
+        }
         Node leftNode = getNode(floorIndex);
         Node rightNode = leftNode.next;
 
@@ -208,6 +517,7 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
         }
         Node nodeToRemove = getNode(index);
+        indexRemove(index);
         if (count == 1){
             head = null;
             log.debug("Удален единственный узел, список пуст");
@@ -222,6 +532,8 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             log.debug("Узел удален из середины списка");
         }
         count--;
+        structureVersion++;
+        uniform = uniform && index == count;
         log.info("Узел с индексом {} удален, новый размер: {}", index, count);
     }
 
@@ -231,6 +543,7 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         if (head == null)
         {
             addNode(x, y);
+            uniform = false;
             log.debug("Вставка в пустой список");
             return;
         }
@@ -250,7 +563,10 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             head.prev.next = newNode;
             head.prev = newNode;
             head = newNode; // переносим голову
+            indexInsert(newNode, 0);
             count++;
+            structureVersion++;
+            uniform = false;
             log.debug("Точка вставлена в начало списка");
             return;
         }
@@ -261,7 +577,10 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
             newNode.prev = head.prev;
             head.prev.next = newNode;
             head.prev = newNode;
+            indexInsert(newNode, count);
             count++;
+            structureVersion++;
+            uniform = false;
             log.debug("Точка вставлена в конец списка");
             return;
         }
@@ -273,9 +592,161 @@ public class LinkedListTabulatedFunction extends AbstractTabulatedFunction imple
         newNode.prev = mergeNode;
         mergeNode.next.prev = newNode;
         mergeNode.next = newNode;
+        indexInsert(newNode, i + 1);
         ++count;
+        structureVersion++;
+        uniform = false;
         log.debug("Точка вставлена в середину списка на позицию {}", i);
     }
+    // Индекс и курсор после массовых изменений строятся заново при следующем обращении
+    private void resetIndex(){
+        skipIndex = null;
+        cursor = null;
+        structureVersion++;
+    }
+    @Override
+    public void insertAll(double[] xValues, double[] yValues) {
+        log.debug("Вставка пачки из {} точек в связанный список", xValues.length);
+        checkLengthIsTheSame(xValues, yValues);
+        checkSorted(xValues);
+        int inserted = 0;
+        int j = 0;
+        if (head == null) {
+            for (; j < xValues.length; j++) {
+                addNode(xValues[j], yValues[j]);
+                inserted++;
+            }
+        }
+        Node current = head;
+        for (; j < xValues.length; j++) {
+            double x = xValues[j];
+            while (current.next != head && current.next.xValue - x < 1e-12) {
+                current = current.next;
+            }
+            if (Math.abs(current.xValue - x) < 1e-12) {
+                current.yValue = yValues[j];
+                continue;
+            }
+            Node newNode = new Node(x, yValues[j]);
+            if (x < current.xValue) {
+                // x левее первого узла
+                newNode.next = head;
+                newNode.prev = head.prev;
+                head.prev.next = newNode;
+                head.prev = newNode;
+                head = newNode;
+            }
+            else {
+                newNode.next = current.next;
+                newNode.prev = current;
+                current.next.prev = newNode;
+                current.next = newNode;
+            }
+            current = newNode;
+            count++;
+            inserted++;
+        }
+        if (inserted > 0) {
+            uniform = false;
+            resetIndex();
+        }
+        log.info("Вставлено {} новых точек, обновлено {}, новый размер: {}", inserted, xValues.length - inserted, count);
+    }
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        log.debug("Удаление узлов с индексами [{}, {})", fromIndex, toIndex);
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            log.error("Неверный диапазон для удаления: [{}, {}), размер: {}", fromIndex, toIndex, count);
+            throw new IllegalArgumentException("Range: [" + fromIndex + ", " + toIndex + "), Size: " + count);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        if (toIndex - fromIndex == count) {
+            head = null;
+        }
+        else {
+            Node first = getNode(fromIndex);
+            Node afterLast = first;
+            for (int i = fromIndex; i < toIndex; i++) {
+                afterLast = afterLast.next;
+            }
+            first.prev.next = afterLast;
+            afterLast.prev = first.prev;
+            if (fromIndex == 0) {
+                head = afterLast;
+            }
+        }
+        // удаление хвоста не нарушает шаг сетки
+        uniform = uniform && toIndex == count;
+        count -= toIndex - fromIndex;
+        resetIndex();
+        log.info("Удалено {} узлов, новый размер: {}", toIndex - fromIndex, count);
+    }
+    @Override
+    public int removeIf(PointPredicate predicate) {
+        int removed = 0;
+        Node current = head;
+        for (int i = 0, total = count; i < total; i++) {
+            Node next = current.next;
+            if (predicate.test(current.xValue, current.yValue)) {
+                if (count == 1) {
+                    head = null;
+                }
+                else {
+                    current.prev.next = next;
+                    next.prev = current.prev;
+                    if (current == head) {
+                        head = next;
+                    }
+                }
+                count--;
+                removed++;
+            }
+            current = next;
+        }
+        if (removed > 0) {
+            uniform = false;
+            resetIndex();
+        }
+        log.info("Удалено {} узлов по условию, новый размер: {}", removed, count);
+        return removed;
+    }
+    @Override
+    public void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        checkRange(count, fromIndex, length);
+        if (length == 0) {
+            return;
+        }
+        Node node = getNode(fromIndex);
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = node.xValue;
+            node = node.next;
+        }
+    }
+
+    @Override
+    public void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        checkRange(count, fromIndex, length);
+        if (length == 0) {
+            return;
+        }
+        Node node = getNode(fromIndex);
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = node.yValue;
+            node = node.next;
+        }
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer action) {
+        Node node = head;
+        for (int i = 0; i < count; i++) {
+            action.accept(node.xValue, node.yValue);
+            node = node.next;
+        }
+    }
+
     @Override
     public Iterator<Point> iterator(){
         return new Iterator<Point>() {
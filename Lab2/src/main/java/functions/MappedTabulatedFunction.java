@@ -0,0 +1,248 @@
+package functions;
+
+import exceptions.InterpolationException;
+
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.extern.slf4j.Slf4j;
+
+// Табулированная функция только для чтения поверх файла, отображённого в память.
+// Поддерживаются оба бинарных формата FunctionsIO, все числа big-endian:
+// v1 (writeTabulatedFunction(BufferedOutputStream, ...)) - int count, затем пары x, y;
+// v2 (writeTabulatedFunction(Path, ...)) - int MAGIC, int VERSION, long count,
+// затем столбец x и столбец y. Формат определяется по заголовку, как в io.ColumnBinaryCodec.
+@Slf4j
+public class MappedTabulatedFunction extends AbstractTabulatedFunction implements AutoCloseable {
+    @Serial
+    private static final long serialVersionUID = -6164460209640383027L;
+
+    private static final ValueLayout.OfInt COUNT_LAYOUT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble VALUE_LAYOUT = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG_LAYOUT = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final int V2_MAGIC = 0x54424652; // "TBFR"
+    private static final int V2_VERSION = 2;
+    private static final long V1_HEADER_SIZE = Integer.BYTES;
+    private static final long V2_HEADER_SIZE = 2L * Integer.BYTES + Long.BYTES;
+    private static final long POINT_SIZE = 2L * Double.BYTES;
+
+    private final transient Arena arena;
+    private final transient MemorySegment segment;
+    // x(i) лежит по смещению xOffset + i * stride, y(i) - по yOffset + i * stride
+    private final transient long xOffset;
+    private final transient long yOffset;
+    private final transient long stride;
+
+    public MappedTabulatedFunction(Path path) throws IOException {
+        log.debug("Отображение функции из файла {} в память", path);
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < V1_HEADER_SIZE) {
+                log.error("Файл {} слишком мал: {} байт", path, size);
+                throw new IOException("File is too small: " + size + " bytes");
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            int first = segment.get(COUNT_LAYOUT, 0);
+            if (first == V2_MAGIC && size >= V2_HEADER_SIZE && segment.get(COUNT_LAYOUT, Integer.BYTES) == V2_VERSION) {
+                long count = segment.get(LONG_LAYOUT, 2L * Integer.BYTES);
+                checkSize(path, size, count, V2_HEADER_SIZE);
+                log.debug("Файл {} в формате v2, {} точек", path, count);
+                this.xOffset = V2_HEADER_SIZE;
+                this.yOffset = V2_HEADER_SIZE + count * Double.BYTES;
+                this.stride = Double.BYTES;
+                this.count = (int) count;
+            }
+            else {
+                checkSize(path, size, first, V1_HEADER_SIZE);
+                log.debug("Файл {} в формате v1, {} точек", path, first);
+                this.xOffset = V1_HEADER_SIZE;
+                this.yOffset = V1_HEADER_SIZE + Double.BYTES;
+                this.stride = POINT_SIZE;
+                this.count = first;
+            }
+            this.arena = arena;
+            this.segment = segment;
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+        log.info("MappedTabulatedFunction открыт, {} точек, диапазон [{}, {}]", count, leftBound(), rightBound());
+    }
+
+    private static void checkSize(Path path, long size, long count, long headerSize) throws IOException {
+        if (count < 2 || count > Integer.MAX_VALUE || size != headerSize + count * POINT_SIZE) {
+            log.error("Неверный размер файла {}: {} байт для {} точек", path, size, count);
+            throw new IOException("File size " + size + " does not match point count " + count);
+        }
+    }
+
+    private double x(int index) {
+        return segment.get(VALUE_LAYOUT, xOffset + index * stride);
+    }
+
+    private double y(int index) {
+        return segment.get(VALUE_LAYOUT, yOffset + index * stride);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean hasPureReads() {
+        return true;
+    }
+
+    @Override
+    public double getX(int index) {
+        checkIndex(index);
+        return x(index);
+    }
+
+    @Override
+    public double getY(int index) {
+        checkIndex(index);
+        return y(index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        log.error("Попытка изменения функции, отображённой только для чтения");
+        throw new UnsupportedOperationException("Mapped function is read-only");
+    }
+
+    @Override
+    protected int searchX(double x) {
+        return (int) searchSorted(index -> x((int) index), count, x);
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        int index = searchX(x);
+        return index >= 0 ? index : -1;
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        for (int i = 0; i < count; ++i) {
+            if (Math.abs(y(i) - y) < 1e-12) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public double leftBound() {
+        return x(0);
+    }
+
+    @Override
+    public double rightBound() {
+        return x(count - 1);
+    }
+
+    @Override
+    protected int floorIndexOfX(double x) {
+        if (x < leftBound()){
+            log.error("X = {} меньше левой границы {}", x, leftBound());
+            throw new IllegalArgumentException("The value is less than the left bound");
+        }
+        if (x > rightBound()) {
+            return count;
+        }
+        int index = searchX(x);
+        if (index < 0) {
+            return -index - 2;
+        }
+        if (x(index) == x) {
+            return -1;
+        }
+        return x(index) > x ? index - 1 : index;
+    }
+
+    @Override
+    protected double extrapolateLeft(double x) {
+        return interpolate(x, x(0), x(1), y(0), y(1));
+    }
+
+    @Override
+    protected double extrapolateRight(double x) {
+        return interpolate(x, x(count - 2), x(count - 1), y(count - 2), y(count - 1));
+    }
+
+    @Override
+    protected double interpolate(double x, int floorIndex) {
+        if (x < x(floorIndex) || x > x(floorIndex + 1)) {
+            log.error("X = {} вне интервала интерполяции [{}, {}]", x, x(floorIndex), x(floorIndex + 1));
+            throw new InterpolationException("X is outside the interpolation interval");
+        }
+        return interpolate(x, x(floorIndex), x(floorIndex + 1), y(floorIndex), y(floorIndex + 1));
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(x(i), y(i));
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    log.error("Попытка вызова next() когда элементов больше нет");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(x(i), y(i));
+                i++;
+                return point;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+        log.info("Отображение MappedTabulatedFunction закрыто");
+    }
+
+    // Отображение не сериализуется, вместо него сохраняется копия точек
+    @Serial
+    private Object writeReplace() throws ObjectStreamException {
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = x(i);
+            yValues[i] = y(i);
+        }
+        return new ArrayTabulatedFunction(xValues, yValues);
+    }
+}
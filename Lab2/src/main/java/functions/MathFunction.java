@@ -3,6 +3,13 @@ package functions;
 public interface MathFunction {
     double apply (double x);
 
+    // out[i] = apply(xs[i]) для i из [from, to); out может совпадать с xs
+    default void applyAll(double[] xs, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = apply(xs[i]);
+        }
+    }
+
     default CompositeFunction andThen (MathFunction afterFunction){
         return new CompositeFunction(this, afterFunction);
     }
@@ -0,0 +1,339 @@
+package functions;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.extern.slf4j.Slf4j;
+
+// Табулированная функция, хранящая точки вне кучи в MemorySegment.
+// Индексы long, память освобождается закрытием Arena. Конструкторы без Arena создают
+// собственную, которую закрывает close(); экземпляры из фабрики и десериализации
+// размещаются в Arena.ofAuto() и освобождаются сборщиком мусора.
+@Slf4j
+public class MemorySegmentTabulatedFunction implements TabulatedFunction, AutoCloseable {
+    @Serial
+    private static final long serialVersionUID = 5310722418839062214L;
+
+    private transient Arena arena;
+    // Своя Arena закрывается в close(), чужую закрывает владелец
+    private transient boolean ownsArena;
+    private transient MemorySegment xValues;
+    private transient MemorySegment yValues;
+    private long count;
+
+    public MemorySegmentTabulatedFunction(Arena arena, double[] xValues, double[] yValues) {
+        this(arena, false, xValues, yValues);
+    }
+
+    public MemorySegmentTabulatedFunction(double[] xValues, double[] yValues) {
+        this(Arena.ofShared(), true, xValues, yValues);
+    }
+
+    private MemorySegmentTabulatedFunction(Arena arena, boolean ownsArena, double[] xValues, double[] yValues) {
+        log.debug("Создание MemorySegmentTabulatedFunction из массивов, размер: {}", xValues.length);
+        try {
+            if (xValues.length < 2){
+                log.error("Недостаточно точек для создания функции: {}", xValues.length);
+                throw new IllegalArgumentException("At least 2 points required");
+            }
+
+            AbstractTabulatedFunction.checkLengthIsTheSame(xValues, yValues);
+            AbstractTabulatedFunction.checkSorted(xValues);
+
+            allocate(arena, ownsArena, xValues.length);
+        } catch (RuntimeException e) {
+            closeOwned(arena, ownsArena);
+            throw e;
+        }
+        MemorySegment.copy(xValues, 0, this.xValues, ValueLayout.JAVA_DOUBLE, 0, xValues.length);
+        MemorySegment.copy(yValues, 0, this.yValues, ValueLayout.JAVA_DOUBLE, 0, yValues.length);
+        log.info("MemorySegmentTabulatedFunction создан успешно, {} точек, диапазон [{}, {}]", count, leftBound(), rightBound());
+    }
+
+    public MemorySegmentTabulatedFunction(Arena arena, MathFunction source, double xFrom, double xTo, long count) {
+        this(arena, false, source, xFrom, xTo, count);
+    }
+
+    public MemorySegmentTabulatedFunction(MathFunction source, double xFrom, double xTo, long count) {
+        this(Arena.ofShared(), true, source, xFrom, xTo, count);
+    }
+
+    private MemorySegmentTabulatedFunction(Arena arena, boolean ownsArena, MathFunction source, double xFrom, double xTo, long count) {
+        log.debug("Создание MemorySegmentTabulatedFunction из функции {}, диапазон [{}, {}], {} точек", source.getClass().getSimpleName(), xFrom, xTo, count);
+        double xStart = Math.min(xFrom, xTo);
+        double xEnd = Math.max(xFrom, xTo);
+        try {
+            if (count < 2){
+                log.error("Недостаточно точек для создания функции: {}", count);
+                throw new IllegalArgumentException("At least 2 points required");
+            }
+            allocate(arena, ownsArena, count);
+            double step = (xEnd - xStart) / (count - 1);
+            for (long i = 0; i < count; ++i) {
+                double x = xStart + i * step;
+                xValues.setAtIndex(ValueLayout.JAVA_DOUBLE, i, x);
+                yValues.setAtIndex(ValueLayout.JAVA_DOUBLE, i, source.apply(x));
+            }
+        } catch (RuntimeException e) {
+            closeOwned(arena, ownsArena);
+            throw e;
+        }
+        log.info("MemorySegmentTabulatedFunction создан из функции, {} точек, диапазон [{}, {}]", count, xStart, xEnd);
+    }
+
+    private void allocate(Arena arena, boolean ownsArena, long count) {
+        this.arena = arena;
+        this.ownsArena = ownsArena;
+        this.count = count;
+        long byteSize = count * Double.BYTES;
+        this.xValues = arena.allocate(byteSize, Double.BYTES);
+        this.yValues = arena.allocate(byteSize, Double.BYTES);
+    }
+
+    // Собственная Arena не переживает неудачный конструктор
+    private static void closeOwned(Arena arena, boolean ownsArena) {
+        if (ownsArena) {
+            arena.close();
+        }
+    }
+
+    // Экземпляр без явного владельца: память освобождает сборщик мусора, close() ничего не делает
+    public static MemorySegmentTabulatedFunction ofAuto(double[] xValues, double[] yValues) {
+        return new MemorySegmentTabulatedFunction(Arena.ofAuto(), false, xValues, yValues);
+    }
+
+    public long size() {
+        return count;
+    }
+
+    @Override
+    public int getCount() {
+        return Math.toIntExact(count);
+    }
+
+    @Override
+    public boolean hasPureReads() {
+        return true;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= count) {
+            log.error("Неверный индекс: {}, допустимый диапазон [0, {}]", index, count-1);
+            throw new IllegalArgumentException("Index: " + index + ", Size: " + count);
+        }
+    }
+
+    public double getX(long index) {
+        checkIndex(index);
+        return xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, index);
+    }
+
+    public double getY(long index) {
+        checkIndex(index);
+        return yValues.getAtIndex(ValueLayout.JAVA_DOUBLE, index);
+    }
+
+    public void setY(long index, double value) {
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.WRITES);
+        }
+        else {
+            log.debug("Установка Y[{}] = {}", index, value);
+        }
+        checkIndex(index);
+        yValues.setAtIndex(ValueLayout.JAVA_DOUBLE, index, value);
+    }
+
+    @Override
+    public double getX(int index) {
+        return getX((long) index);
+    }
+
+    @Override
+    public double getY(int index) {
+        return getY((long) index);
+    }
+
+    @Override
+    public void setY(int index, double value) {
+        setY((long) index, value);
+    }
+
+    // Индекс совпадающей точки или -(floorIndex) - 2, см. AbstractTabulatedFunction.searchSorted
+    private long searchX(double x) {
+        return AbstractTabulatedFunction.searchSorted(index -> xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, index), count, x);
+    }
+
+    public long longIndexOfX(double x) {
+        long index = searchX(x);
+        return index >= 0 ? index : -1;
+    }
+
+    public long longIndexOfY(double y) {
+        for (long i = 0; i < count; ++i) {
+            if (Math.abs(yValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i) - y) < 1e-12) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfX(double x) {
+        return Math.toIntExact(longIndexOfX(x));
+    }
+
+    @Override
+    public int indexOfY(double y) {
+        return Math.toIntExact(longIndexOfY(y));
+    }
+
+    @Override
+    public double leftBound() {
+        return xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, 0);
+    }
+
+    @Override
+    public double rightBound() {
+        return xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, count - 1);
+    }
+
+    private double interpolate(double x, long leftIndex) {
+        double leftX = xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, leftIndex);
+        double rightX = xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, leftIndex + 1);
+        double leftY = yValues.getAtIndex(ValueLayout.JAVA_DOUBLE, leftIndex);
+        double rightY = yValues.getAtIndex(ValueLayout.JAVA_DOUBLE, leftIndex + 1);
+        return AbstractTabulatedFunction.linearInterpolation(x, leftX, rightX, leftY, rightY);
+    }
+
+    @Override
+    public double apply(double x) {
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.EVALUATIONS);
+        }
+        else {
+            log.debug("Вычисление функции для x = {}", x);
+        }
+        if (x < leftBound()) {
+            if (HotPathLogging.QUIET) {
+                HotPathLogging.count(HotPathLogging.Counter.EXTRAPOLATIONS);
+            }
+            else {
+                log.debug("x < левой границы, экстраполяция слева");
+            }
+            return interpolate(x, 0);
+        }
+        else if (x > rightBound()) {
+            if (HotPathLogging.QUIET) {
+                HotPathLogging.count(HotPathLogging.Counter.EXTRAPOLATIONS);
+            }
+            else {
+                log.debug("x > правой границы, экстраполяция справа");
+            }
+            return interpolate(x, count - 2);
+        }
+        long index = searchX(x);
+        if (index >= 0) {
+            if (HotPathLogging.QUIET) {
+                HotPathLogging.count(HotPathLogging.Counter.EXACT_HITS);
+            }
+            return yValues.getAtIndex(ValueLayout.JAVA_DOUBLE, index);
+        }
+        if (HotPathLogging.QUIET) {
+            HotPathLogging.count(HotPathLogging.Counter.INTERPOLATIONS);
+        }
+        return interpolate(x, -index - 2);
+    }
+
+    @Override
+    public void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        checkRange(fromIndex, length);
+        MemorySegment.copy(xValues, ValueLayout.JAVA_DOUBLE, (long) fromIndex * Double.BYTES, target, targetOffset, length);
+    }
+
+    @Override
+    public void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        checkRange(fromIndex, length);
+        MemorySegment.copy(yValues, ValueLayout.JAVA_DOUBLE, (long) fromIndex * Double.BYTES, target, targetOffset, length);
+    }
+
+    private void checkRange(long fromIndex, long length) {
+        if (fromIndex < 0 || length < 0 || fromIndex > count - length) {
+            log.error("Неверный диапазон: [{}, {}), размер: {}", fromIndex, fromIndex + length, count);
+            throw new IllegalArgumentException("Range: [" + fromIndex + ", " + (fromIndex + length) + "), Size: " + count);
+        }
+    }
+
+    @Override
+    public void forEachPoint(PointConsumer action) {
+        for (long i = 0; i < count; ++i) {
+            action.accept(xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i), yValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i));
+        }
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<Point>() {
+            private long i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public Point next() {
+                if (!hasNext()) {
+                    log.error("Попытка вызова next() когда элементов больше нет");
+                    throw new NoSuchElementException();
+                }
+                Point point = new Point(xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i), yValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i));
+                i++;
+                return point;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        if (ownsArena) {
+            arena.close();
+            log.info("Память MemorySegmentTabulatedFunction освобождена, {} точек", count);
+        }
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        for (long i = 0; i < count; ++i) {
+            out.writeDouble(xValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i));
+            out.writeDouble(yValues.getAtIndex(ValueLayout.JAVA_DOUBLE, i));
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        allocate(Arena.ofAuto(), false, count);
+        for (long i = 0; i < count; ++i) {
+            xValues.setAtIndex(ValueLayout.JAVA_DOUBLE, i, in.readDouble());
+            yValues.setAtIndex(ValueLayout.JAVA_DOUBLE, i, in.readDouble());
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder line = new StringBuilder();
+        line.append(getClass().getSimpleName()).append(" size = ").append(count).append("\n");
+        for (Point point : this) {
+            line.append("[").append(point.x).append("; ").append(point.y).append("]\n");
+        }
+        return line.toString();
+    }
+}
@@ -2,4 +2,32 @@ package functions;
 
 public interface Removable {
     void remove(int index);
+
+    interface PointPredicate {
+        boolean test(double x, double y);
+    }
+
+    // Удаляет точки с индексами из [fromIndex, toIndex)
+    default void removeRange(int fromIndex, int toIndex) {
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+
+    // Удаляет все точки, для которых predicate вернул true; возвращает их количество.
+    // Реализации удаляют точки на месте за один проход
+    int removeIf(PointPredicate predicate);
+
+    // Обход с конца с удалением по одной точке через remove, для реализаций
+    // без собственного хранилища (например, обёрток над другой функцией)
+    static <F extends TabulatedFunction & Removable> int removeEachIf(F function, PointPredicate predicate) {
+        int removed = 0;
+        for (int i = function.getCount() - 1; i >= 0; i--) {
+            if (predicate.test(function.getX(i), function.getY(i))) {
+                function.remove(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
 }
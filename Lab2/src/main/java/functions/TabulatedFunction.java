@@ -1,6 +1,8 @@
 package functions;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
 
 public interface TabulatedFunction extends MathFunction, Iterable<Point>, Serializable {
     int getCount();
@@ -12,4 +14,74 @@ public interface TabulatedFunction extends MathFunction, Iterable<Point>, Serial
     double leftBound();
     double rightBound();
 
+    // Копирование столбцов точек [fromIndex, fromIndex + length) в массив вызывающего.
+    // Реализации переопределяют поэлементное копирование копированием своего хранилища.
+    default void copyXValues(int fromIndex, double[] target, int targetOffset, int length) {
+        AbstractTabulatedFunction.checkRange(getCount(), fromIndex, length);
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = getX(fromIndex + i);
+        }
+    }
+
+    default void copyYValues(int fromIndex, double[] target, int targetOffset, int length) {
+        AbstractTabulatedFunction.checkRange(getCount(), fromIndex, length);
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = getY(fromIndex + i);
+        }
+    }
+
+    // То же в буфер с его текущей позиции; позиция сдвигается на length
+    default void copyXValues(int fromIndex, DoubleBuffer target, int length) {
+        copyColumn(fromIndex, target, length, true);
+    }
+
+    default void copyYValues(int fromIndex, DoubleBuffer target, int length) {
+        copyColumn(fromIndex, target, length, false);
+    }
+
+    private void copyColumn(int fromIndex, DoubleBuffer target, int length, boolean xColumn) {
+        if (target.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        double[] values;
+        int offset;
+        if (target.hasArray()) {
+            values = target.array();
+            offset = target.arrayOffset() + target.position();
+        }
+        else {
+            values = new double[length];
+            offset = 0;
+        }
+        if (xColumn) {
+            copyXValues(fromIndex, values, offset, length);
+        }
+        else {
+            copyYValues(fromIndex, values, offset, length);
+        }
+        if (target.hasArray()) {
+            target.position(target.position() + length);
+        }
+        else {
+            target.put(values);
+        }
+    }
+
+    // true, если чтения ничего не записывают в состояние функции и их можно выполнять
+    // параллельно и повторять (см. concurrent.StampedTabulatedFunction). Подкласс,
+    // чтения которого пишут в общие поля, должен снова вернуть false.
+    default boolean hasPureReads() {
+        return false;
+    }
+
+    interface PointConsumer {
+        void accept(double x, double y);
+    }
+
+    // Обход точек без создания Point; реализации переопределяют его обходом своего хранилища
+    default void forEachPoint(PointConsumer action) {
+        for (Point point : this) {
+            action.accept(point.x, point.y);
+        }
+    }
 }
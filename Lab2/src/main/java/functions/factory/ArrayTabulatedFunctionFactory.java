@@ -12,4 +12,10 @@ public class ArrayTabulatedFunctionFactory implements TabulatedFunctionFactory {
         log.info("ArrayTabulatedFunction создан через фабрику, {} точек", xValues.length);
         return new ArrayTabulatedFunction(xValues, yValues);
     }
+
+    @Override
+    public TabulatedFunction wrap(double[] xValues, double[] yValues) {
+        log.debug("Создание ArrayTabulatedFunction поверх массивов без копирования, размер: {}", xValues.length);
+        return ArrayTabulatedFunction.wrap(xValues, yValues);
+    }
 }
@@ -0,0 +1,15 @@
+package functions.factory;
+
+import functions.BPlusTreeTabulatedFunction;
+import functions.TabulatedFunction;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class BPlusTreeTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        log.debug("Создание BPlusTreeTabulatedFunction через фабрику, размер: {}", xValues.length);
+        log.info("BPlusTreeTabulatedFunction создан через фабрику, {} точек", xValues.length);
+        return new BPlusTreeTabulatedFunction(xValues, yValues);
+    }
+}
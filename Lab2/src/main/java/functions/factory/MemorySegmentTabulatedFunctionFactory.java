@@ -0,0 +1,16 @@
+package functions.factory;
+
+import functions.MemorySegmentTabulatedFunction;
+import functions.TabulatedFunction;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class MemorySegmentTabulatedFunctionFactory implements TabulatedFunctionFactory {
+    @Override
+    public TabulatedFunction create(double[] xValues, double[] yValues) {
+        log.debug("Создание MemorySegmentTabulatedFunction через фабрику, размер: {}", xValues.length);
+        log.info("MemorySegmentTabulatedFunction создан через фабрику, {} точек", xValues.length);
+        // результаты фабрики никто не закрывает, поэтому память освобождается сборщиком мусора
+        return MemorySegmentTabulatedFunction.ofAuto(xValues, yValues);
+    }
+}
@@ -4,4 +4,10 @@ import functions.TabulatedFunction;
 
 public interface TabulatedFunctionFactory {
     TabulatedFunction create(double[] xValues, double[] yValues);
+
+    // Создание функции, которая может забрать массивы без защитной копии;
+    // после вызова вызывающий не должен их изменять
+    default TabulatedFunction wrap(double[] xValues, double[] yValues) {
+        return create(xValues, yValues);
+    }
 }
@@ -0,0 +1,146 @@
+package io;
+
+import functions.TabulatedFunction;
+import functions.factory.TabulatedFunctionFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+
+// Бинарный формат v2 поверх FileChannel.
+// Заголовок: int MAGIC, int VERSION, long count; затем столбец x и столбец y,
+// все числа big-endian, как в v1. Столбцы переносятся блоками через
+// DoubleBuffer-представление прямого буфера, без поэлементной записи.
+// Формат v1 (int count, затем пары x y) читается с тем же определением по заголовку.
+@Slf4j
+final class ColumnBinaryCodec {
+    static final int MAGIC = 0x54424652; // "TBFR"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+    private static final int V1_HEADER_SIZE = Integer.BYTES;
+    private static final int BLOCK_SIZE = 1 << 20;
+
+    private ColumnBinaryCodec() {
+    }
+
+    static void write(Path path, TabulatedFunction function) throws IOException {
+        int count = function.getCount();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer block = ByteBuffer.allocateDirect(BLOCK_SIZE).order(ByteOrder.BIG_ENDIAN);
+            block.putInt(MAGIC).putInt(VERSION).putLong(count).flip();
+            writeFully(channel, block);
+            writeColumn(channel, block, function, count, true);
+            writeColumn(channel, block, function, count, false);
+        }
+    }
+
+    private static void writeColumn(FileChannel channel, ByteBuffer block, TabulatedFunction function,
+                                    int count, boolean xColumn) throws IOException {
+        int blockValues = BLOCK_SIZE / Double.BYTES;
+        for (int from = 0; from < count; from += blockValues) {
+            int length = Math.min(blockValues, count - from);
+            block.clear();
+            DoubleBuffer values = block.asDoubleBuffer();
+            if (xColumn) {
+                function.copyXValues(from, values, length);
+            }
+            else {
+                function.copyYValues(from, values, length);
+            }
+            block.limit(length * Double.BYTES);
+            writeFully(channel, block);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer block) throws IOException {
+        while (block.hasRemaining()) {
+            channel.write(block);
+        }
+    }
+
+    static TabulatedFunction read(Path path, TabulatedFunctionFactory factory) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer block = ByteBuffer.allocateDirect(BLOCK_SIZE).order(ByteOrder.BIG_ENDIAN);
+            block.limit((int) Math.min(HEADER_SIZE, size));
+            readFully(channel, block);
+            block.flip();
+            if (block.remaining() < V1_HEADER_SIZE) {
+                log.error("Файл {} слишком мал: {} байт", path, size);
+                throw new IOException("File is too small: " + size + " bytes");
+            }
+
+            int first = block.getInt(0);
+            if (first == MAGIC && size >= HEADER_SIZE && block.getInt(Integer.BYTES) == VERSION) {
+                long count = block.getLong(2 * Integer.BYTES);
+                checkSize(path, size, count, HEADER_SIZE);
+                log.debug("Чтение функции с {} точками из бинарного формата v2", count);
+                double[] xValues = new double[(int) count];
+                double[] yValues = new double[(int) count];
+                channel.position(HEADER_SIZE);
+                readColumn(channel, block, xValues);
+                readColumn(channel, block, yValues);
+                return factory.wrap(xValues, yValues);
+            }
+
+            checkSize(path, size, first, V1_HEADER_SIZE);
+            log.debug("Чтение функции с {} точками из бинарного формата v1", first);
+            channel.position(V1_HEADER_SIZE);
+            return readInterleaved(channel, block, first, factory);
+        }
+    }
+
+    private static void checkSize(Path path, long size, long count, int headerSize) throws IOException {
+        if (count < 0 || count > Integer.MAX_VALUE || size != headerSize + count * 2 * Double.BYTES) {
+            log.error("Неверный размер файла {}: {} байт для {} точек", path, size, count);
+            throw new IOException("File size " + size + " does not match point count " + count);
+        }
+    }
+
+    private static void readColumn(FileChannel channel, ByteBuffer block, double[] target) throws IOException {
+        int blockValues = BLOCK_SIZE / Double.BYTES;
+        for (int from = 0; from < target.length; from += blockValues) {
+            int length = Math.min(blockValues, target.length - from);
+            block.clear().limit(length * Double.BYTES);
+            readFully(channel, block);
+            block.flip();
+            block.asDoubleBuffer().get(target, from, length);
+        }
+    }
+
+    // v1: пары x y подряд, разбираются по блокам
+    private static TabulatedFunction readInterleaved(FileChannel channel, ByteBuffer block, int count,
+                                                     TabulatedFunctionFactory factory) throws IOException {
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        int blockPoints = BLOCK_SIZE / (2 * Double.BYTES);
+        for (int from = 0; from < count; from += blockPoints) {
+            int length = Math.min(blockPoints, count - from);
+            block.clear().limit(length * 2 * Double.BYTES);
+            readFully(channel, block);
+            block.flip();
+            DoubleBuffer values = block.asDoubleBuffer();
+            for (int i = 0; i < length; i++) {
+                xValues[from + i] = values.get(2 * i);
+                yValues[from + i] = values.get(2 * i + 1);
+            }
+        }
+        return factory.wrap(xValues, yValues);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer block) throws IOException {
+        while (block.hasRemaining()) {
+            if (channel.read(block) < 0) {
+                log.error("Неожиданный конец файла");
+                throw new EOFException();
+            }
+        }
+    }
+}
@@ -1,71 +1,62 @@
 package io;
 
+import functions.MappedTabulatedFunction;
 import functions.Point;
 import functions.TabulatedFunction;
 import functions.factory.TabulatedFunctionFactory;
 
 import java.io.*;
-import java.text.NumberFormat;
-import java.text.ParseException;
+import java.nio.file.Path;
+import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public final class FunctionsIO {
+    private static final int DEFAULT_FRACTION_DIGITS = 6;
+
     private FunctionsIO() {
         throw new UnsupportedOperationException();
     }
 
-    static void writeTabulatedFunction (BufferedWriter writer, TabulatedFunction function) {
-        log.debug("Запись табулированной функции в текстовый формат, количество точек: {}", function.getCount());
-        PrintWriter pw = new PrintWriter(writer);
-
-        pw.println(function.getCount());
-
-        for (Point point : function) {
-            pw.printf("%f %f%n", point.x, point.y);
-        }
+    // Прежний формат printf("%f %f%n"): шесть знаков после разделителя локали
+    static void writeTabulatedFunction(BufferedWriter writer, TabulatedFunction function) throws IOException {
+        writeTabulatedFunction(writer, function, DEFAULT_FRACTION_DIGITS);
+    }
 
-        pw.flush();
+    // Фиксированное число знаков после разделителя или TabulatedTextWriter.SHORTEST -
+    // кратчайшая запись, по которой значения восстанавливаются без потерь
+    static void writeTabulatedFunction(BufferedWriter writer, TabulatedFunction function, int fractionDigits)
+            throws IOException {
+        log.debug("Запись табулированной функции в текстовый формат, количество точек: {}", function.getCount());
+        new TabulatedTextWriter(writer, fractionDigits, decimalSeparator()).write(function);
         log.info("Функция успешно записана в текстовый формат, {} точек", function.getCount());
     }
 
+    // Разделитель локали по умолчанию, как у printf, если его понимает readTabulatedFunction
+    private static char decimalSeparator() {
+        char separator = DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+        return separator == ',' ? ',' : '.';
+    }
+
+    // Принимает и запятую, и точку в качестве десятичного разделителя
     static TabulatedFunction readTabulatedFunction(BufferedReader reader, TabulatedFunctionFactory factory)
             throws IOException {
         log.debug("Чтение табулированной функции из текстового формата");
+        TabulatedTextParser parser = new TabulatedTextParser(reader);
+        int count = parser.readCount();
+        log.debug("Чтение функции с {} точками", count);
 
-        try {
-            int count = Integer.parseInt(reader.readLine());
-            log.debug("Чтение функции с {} точками", count);
-
-            double[] xValues = new double[count];
-            double[] yValues = new double[count];
-
-            NumberFormat nf = NumberFormat.getInstance(Locale.forLanguageTag("ru"));
-
-            for (int i = 0; i < count; i++) {
-                String line = reader.readLine();
-                if (line == null) {
-                    log.error("Неожиданный конец файла при чтении точки {}", i);
-                    throw new IOException();
-                }
-
-                String[] parts = line.split(" ");
-                if (parts.length != 2) {
-                    log.error("Неверный формат строки: '{}'", line);
-                    throw new IOException();
-                }
-
-                xValues[i] = nf.parse(parts[0]).doubleValue();
-                yValues[i] = nf.parse(parts[1]).doubleValue();
-            }
-            log.info("Функция успешно прочитана из текстового формата");
-            return factory.create(xValues, yValues);
-
-        } catch (ParseException e) {
-            log.error("Ошибка парсинга числа", e);
-            throw new IOException("Error parsing number", e);
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = parser.readNumber();
+            yValues[i] = parser.readNumber();
+            parser.endLine();
         }
+        parser.release();
+        log.info("Функция успешно прочитана из текстового формата");
+        return factory.create(xValues, yValues);
     }
 
     public static void writeTabulatedFunction(BufferedOutputStream outputStream, TabulatedFunction function)
@@ -95,6 +86,27 @@ public final class FunctionsIO {
         return factory.create(xValues, yValues);
     }
 
+    // Бинарный формат v2: заголовок с версией, затем столбцы x и y целиком, см. ColumnBinaryCodec
+    public static void writeTabulatedFunction(Path path, TabulatedFunction function) throws IOException {
+        log.debug("Запись табулированной функции в бинарный формат v2, количество точек: {}", function.getCount());
+        ColumnBinaryCodec.write(path, function);
+        log.info("Функция успешно записана в файл {}, {} точек", path, function.getCount());
+    }
+
+    // Читает формат v2 и прежний формат writeTabulatedFunction(BufferedOutputStream, ...)
+    public static TabulatedFunction readTabulatedFunction(Path path, TabulatedFunctionFactory factory) throws IOException {
+        TabulatedFunction function = ColumnBinaryCodec.read(path, factory);
+        log.info("Функция успешно прочитана из файла {}, {} точек", path, function.getCount());
+        return function;
+    }
+
+    // Открывает функцию, записанную writeTabulatedFunction(BufferedOutputStream, ...)
+    // или writeTabulatedFunction(Path, ...), без чтения и копирования: точки читаются прямо из отображённого файла.
+    public static MappedTabulatedFunction mapTabulatedFunction(Path path) throws IOException {
+        log.debug("Отображение бинарного файла {} в память", path);
+        return new MappedTabulatedFunction(path);
+    }
+
     public static void serialize(BufferedOutputStream stream, TabulatedFunction function) throws IOException {
         log.debug("Сериализация функции {} с {} точками", function.getClass().getSimpleName(), function.getCount());
         ObjectOutputStream oos = new ObjectOutputStream(stream);
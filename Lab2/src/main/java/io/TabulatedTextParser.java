@@ -0,0 +1,206 @@
+package io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+
+// Потоковый разбор текстового формата FunctionsIO: строка с количеством точек,
+// затем строки "x y". Символы читаются блоками в char[] и разбираются на месте,
+// без split, промежуточных строк и NumberFormat. Десятичный разделитель - точка
+// или запятая, допускается показатель степени (1,5E-3).
+// Через mark/reset читатель после release() стоит сразу за последней разобранной строкой,
+// как после прежнего построчного чтения.
+@Slf4j
+final class TabulatedTextParser {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // Точные степени десяти: при мантиссе до 2^53 и |порядке| <= 22
+    // одно умножение или деление даёт корректно округлённый результат
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long EXACT_MANTISSA_LIMIT = 1L << 53;
+
+    private final BufferedReader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int line = 1;
+
+    // Символы текущего числа для редкого медленного пути через Double.parseDouble
+    private char[] token = new char[32];
+    private int tokenLength;
+
+    TabulatedTextParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            reader.mark(BUFFER_SIZE);
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+
+    private void take(char c) {
+        if (tokenLength == token.length) {
+            token = Arrays.copyOf(token, tokenLength * 2);
+        }
+        token[tokenLength++] = c;
+        position++;
+    }
+
+    private void skipSpaces() throws IOException {
+        int c = peek();
+        while (c == ' ' || c == '\t') {
+            position++;
+            c = peek();
+        }
+    }
+
+    private IOException error(String message) {
+        log.error("Ошибка разбора текстового формата в строке {}: {}", line, message);
+        return new IOException(message + " at line " + line);
+    }
+
+    int readCount() throws IOException {
+        skipSpaces();
+        long count = 0;
+        int digits = 0;
+        for (int c = peek(); c >= '0' && c <= '9'; c = peek()) {
+            count = count * 10 + (c - '0');
+            if (count > Integer.MAX_VALUE) {
+                throw error("Point count is too large");
+            }
+            digits++;
+            position++;
+        }
+        if (digits == 0) {
+            throw error("Point count expected");
+        }
+        endLine();
+        return (int) count;
+    }
+
+    double readNumber() throws IOException {
+        skipSpaces();
+        tokenLength = 0;
+        boolean negative = false;
+        int c = peek();
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            take((char) c);
+            c = peek();
+        }
+        if (Character.isLetter(c)) {
+            // NaN, Infinity
+            while (Character.isLetter(c)) {
+                take((char) c);
+                c = peek();
+            }
+            return parseSlow();
+        }
+
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean exact = true;
+        for (; c >= '0' && c <= '9'; c = peek()) {
+            take((char) c);
+            digits++;
+            if (mantissa < EXACT_MANTISSA_LIMIT) {
+                mantissa = mantissa * 10 + (c - '0');
+            }
+            else {
+                exact = false;
+            }
+        }
+        if (c == '.' || c == ',') {
+            take('.');
+            for (c = peek(); c >= '0' && c <= '9'; c = peek()) {
+                take((char) c);
+                digits++;
+                if (mantissa < EXACT_MANTISSA_LIMIT) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    exponent--;
+                }
+                else if (c != '0') {
+                    exact = false;
+                }
+            }
+        }
+        if (digits == 0) {
+            throw error("Number expected");
+        }
+        if (c == 'e' || c == 'E') {
+            take((char) c);
+            c = peek();
+            boolean negativeExponent = false;
+            if (c == '-' || c == '+') {
+                negativeExponent = c == '-';
+                take((char) c);
+                c = peek();
+            }
+            int value = 0;
+            int exponentDigits = 0;
+            for (; c >= '0' && c <= '9'; c = peek()) {
+                take((char) c);
+                value = Math.min(value * 10 + (c - '0'), 100_000);
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                throw error("Exponent expected");
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+
+        if (!exact || mantissa >= EXACT_MANTISSA_LIMIT || exponent < -22 || exponent > 22) {
+            return parseSlow();
+        }
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private double parseSlow() throws IOException {
+        try {
+            return Double.parseDouble(new String(token, 0, tokenLength));
+        } catch (NumberFormatException e) {
+            throw error("Invalid number '" + new String(token, 0, tokenLength) + "'");
+        }
+    }
+
+    // Конец строки: \n, \r\n или конец потока
+    void endLine() throws IOException {
+        skipSpaces();
+        int c = peek();
+        if (c == '\r') {
+            position++;
+            c = peek();
+        }
+        if (c == '\n') {
+            position++;
+        }
+        else if (c != -1) {
+            throw error("Unexpected character '" + (char) c + "'");
+        }
+        line++;
+    }
+
+    // Возвращает непрочитанный остаток блока обратно в reader
+    void release() throws IOException {
+        if (limit > 0) {
+            reader.reset();
+            reader.skip(position);
+        }
+        position = 0;
+        limit = 0;
+    }
+}
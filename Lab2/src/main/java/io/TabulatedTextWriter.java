@@ -0,0 +1,158 @@
+package io;
+
+import functions.TabulatedFunction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import lombok.extern.slf4j.Slf4j;
+
+// Запись текстового формата FunctionsIO без Formatter: числа форматируются
+// прямо в переиспользуемый char[], который целиком передаётся в Writer.
+// Режимы: кратчайшая запись, однозначно восстанавливающая double (как Double.toString),
+// или фиксированное число знаков после разделителя с округлением половины вверх (как %f).
+// Разделитель - точка или запятая, TabulatedTextParser принимает оба.
+@Slf4j
+final class TabulatedTextWriter {
+    static final int SHORTEST = -1;
+    static final int MAX_FRACTION_DIGITS = 100;
+
+    private static final int BUFFER_SIZE = 1 << 13;
+    // Запас под одно число с разделителем после него: не больше 309 цифр
+    // целой части, MAX_FRACTION_DIGITS дробной, знак и разделитель
+    private static final int NUMBER_RESERVE = 512;
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final Writer writer;
+    private final int fractionDigits;
+    private final char decimalSeparator;
+    private final String lineSeparator = System.lineSeparator();
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    // StringBuilder.append(double) пишет кратчайшую запись без промежуточной строки
+    private final StringBuilder shortest = new StringBuilder(32);
+
+    TabulatedTextWriter(Writer writer, int fractionDigits, char decimalSeparator) {
+        if (fractionDigits < SHORTEST || fractionDigits > MAX_FRACTION_DIGITS) {
+            log.error("Неверное число знаков после разделителя: {}, допустимо {} (SHORTEST) или [0, {}]", fractionDigits, SHORTEST, MAX_FRACTION_DIGITS);
+            throw new IllegalArgumentException("Fraction digits must be " + SHORTEST + " (SHORTEST) or in [0, "
+                    + MAX_FRACTION_DIGITS + "]: " + fractionDigits);
+        }
+        this.writer = writer;
+        this.fractionDigits = fractionDigits;
+        this.decimalSeparator = decimalSeparator;
+    }
+
+    void write(TabulatedFunction function) throws IOException {
+        appendLong(function.getCount());
+        appendLineSeparator();
+        try {
+            function.forEachPoint((x, y) -> {
+                appendDouble(x);
+                buffer[position++] = ' ';
+                appendDouble(y);
+                appendLineSeparator();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        drain();
+        writer.flush();
+    }
+
+    private void drain() {
+        try {
+            writer.write(buffer, 0, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+
+    private void appendLineSeparator() {
+        for (int i = 0; i < lineSeparator.length(); i++) {
+            buffer[position++] = lineSeparator.charAt(i);
+        }
+    }
+
+    private void appendDouble(double value) {
+        if (position > BUFFER_SIZE - NUMBER_RESERVE) {
+            drain();
+        }
+        if (fractionDigits == SHORTEST || !Double.isFinite(value)) {
+            appendShortest(value);
+        }
+        else {
+            appendFixed(value);
+        }
+    }
+
+    private void appendShortest(double value) {
+        shortest.setLength(0);
+        shortest.append(value);
+        int length = shortest.length();
+        shortest.getChars(0, length, buffer, position);
+        for (int i = position; i < position + length; i++) {
+            if (buffer[i] == '.') {
+                buffer[i] = decimalSeparator;
+                break;
+            }
+        }
+        position += length;
+    }
+
+    private void appendFixed(double value) {
+        if (Double.doubleToRawLongBits(value) < 0) {
+            buffer[position++] = '-';
+        }
+        double magnitude = Math.abs(value);
+        double scaled = magnitude * (fractionDigits < POWERS_OF_TEN.length ? POWERS_OF_TEN[fractionDigits] : Double.POSITIVE_INFINITY);
+        // %f округляет половину вверх кратчайшую десятичную запись числа, а не его двоичное значение.
+        // Округление scaled совпадает с ней, пока дробная часть scaled отстоит от 0,5 больше
+        // погрешности умножения; иначе, как и при scaled >= 2^52, где дробная часть
+        // уже неточна, число округляется через BigDecimal.valueOf (запись Double.toString)
+        if (scaled >= 0x1p52 || Math.abs(scaled - Math.floor(scaled) - 0.5) <= 2 * Math.ulp(scaled)) {
+            String digits = BigDecimal.valueOf(magnitude).setScale(fractionDigits, RoundingMode.HALF_UP).toPlainString();
+            digits.getChars(0, digits.length(), buffer, position);
+            int separator = digits.indexOf('.');
+            if (separator >= 0) {
+                buffer[position + separator] = decimalSeparator;
+            }
+            position += digits.length();
+            return;
+        }
+        long units = (long) Math.floor(scaled + 0.5);
+        appendLong(units / POWERS_OF_TEN[fractionDigits]);
+        if (fractionDigits > 0) {
+            buffer[position++] = decimalSeparator;
+            long fraction = units % POWERS_OF_TEN[fractionDigits];
+            for (int i = position + fractionDigits - 1; i >= position; i--) {
+                buffer[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            position += fractionDigits;
+        }
+    }
+
+    private void appendLong(long value) {
+        int start = position;
+        do {
+            buffer[position++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            char c = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = c;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package operations;
+
+// Поэлементные операции над столбцами Y и проверка совпадения сеток X
+// на диапазоне индексов [from, to). out может совпадать с u или v.
+public interface ElementwiseKernels {
+    void sum(double[] u, double[] v, double[] out, int from, int to);
+    void subtract(double[] u, double[] v, double[] out, int from, int to);
+    void multiply(double[] u, double[] v, double[] out, int from, int to);
+    // ArithmeticException, если |v[i]| < 1e-12
+    void divide(double[] u, double[] v, double[] out, int from, int to);
+
+    // Первый индекс, где |a[i] - b[i]| > tolerance, или -1
+    int firstMismatch(double[] a, double[] b, int from, int to, double tolerance);
+
+    static ElementwiseKernels scalar() {
+        return new ScalarKernels();
+    }
+
+    // Векторные ядра, если модуль jdk.incubator.vector подключён (--add-modules)
+    // и процессор даёт хотя бы две дорожки double, иначе скалярные
+    static ElementwiseKernels preferred() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() && VectorKernels.isAccelerated()) {
+            return new VectorKernels();
+        }
+        return new ScalarKernels();
+    }
+}
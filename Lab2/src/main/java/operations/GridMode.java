@@ -0,0 +1,12 @@
+package operations;
+
+// Как совмещаются сетки X двух функций в бинарных операциях
+public enum GridMode {
+    // Сетки должны совпадать, иначе InconsistentFunctionsException
+    STRICT,
+    // Объединение сеток; недостающая сторона интерполируется,
+    // за пределами своей области определения - экстраполируется
+    UNION,
+    // Только точки из общей области определения [max(left), min(right)]
+    INTERSECTION
+}
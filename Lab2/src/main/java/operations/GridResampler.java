@@ -0,0 +1,88 @@
+package operations;
+
+import exceptions.InconsistentFunctionsException;
+
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+
+// Совмещение двух отсортированных сеток за один проход слиянием, O(n + m).
+// Точки, отличающиеся меньше чем на TOLERANCE, считаются общими - тот же допуск,
+// что и при проверке совпадения сеток в TabulatedFunctionOperationService.
+@Slf4j
+final class GridResampler {
+    static final double TOLERANCE = 1e-9;
+
+    final double[] xValues;
+    final double[] yValuesA;
+    final double[] yValuesB;
+
+    private GridResampler(double[] xValues, double[] yValuesA, double[] yValuesB) {
+        this.xValues = xValues;
+        this.yValuesA = yValuesA;
+        this.yValuesB = yValuesB;
+    }
+
+    static GridResampler resample(double[] xA, double[] yA, double[] xB, double[] yB, GridMode mode) {
+        int n = xA.length;
+        int m = xB.length;
+        double low = Double.NEGATIVE_INFINITY;
+        double high = Double.POSITIVE_INFINITY;
+        if (mode == GridMode.INTERSECTION) {
+            low = Math.max(xA[0], xB[0]) - TOLERANCE;
+            high = Math.min(xA[n - 1], xB[m - 1]) + TOLERANCE;
+        }
+
+        double[] xValues = new double[n + m];
+        double[] yValuesA = new double[n + m];
+        double[] yValuesB = new double[n + m];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < n || j < m) {
+            double x;
+            double u;
+            double v;
+            if (i < n && j < m && Math.abs(xA[i] - xB[j]) < TOLERANCE) {
+                x = xA[i];
+                u = yA[i++];
+                v = yB[j++];
+            }
+            else if (j == m || (i < n && xA[i] < xB[j])) {
+                x = xA[i];
+                u = yA[i++];
+                v = valueAt(xB, yB, j, x);
+            }
+            else {
+                x = xB[j];
+                u = valueAt(xA, yA, i, x);
+                v = yB[j++];
+            }
+            if (x < low || x > high) {
+                continue;
+            }
+            xValues[size] = x;
+            yValuesA[size] = u;
+            yValuesB[size] = v;
+            size++;
+        }
+
+        if (size < 2) {
+            log.error("Области определения функций не пересекаются: [{}, {}] и [{}, {}]", xA[0], xA[n - 1], xB[0], xB[m - 1]);
+            throw new InconsistentFunctionsException("Domains do not overlap in at least 2 points");
+        }
+        log.debug("Сетки из {} и {} точек совмещены в {} точек, режим {}", n, m, size, mode);
+        return new GridResampler(Arrays.copyOf(xValues, size), Arrays.copyOf(yValuesA, size), Arrays.copyOf(yValuesB, size));
+    }
+
+    // Значение в x по интервалу перед точкой next (первой точкой сетки правее x),
+    // на краях - экстраполяция по двум крайним точкам, как в AbstractTabulatedFunction.
+    // Функция из одной точки (остаётся после remove) продолжается константой
+    private static double valueAt(double[] xValues, double[] yValues, int next, double x) {
+        if (xValues.length == 1) {
+            return yValues[0];
+        }
+        int right = Math.max(1, Math.min(next, xValues.length - 1));
+        int left = right - 1;
+        return yValues[left] + (yValues[right] - yValues[left]) * (x - xValues[left]) / (xValues[right] - xValues[left]);
+    }
+}
@@ -0,0 +1,48 @@
+package operations;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+final class ScalarKernels implements ElementwiseKernels {
+    @Override
+    public void sum(double[] u, double[] v, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = u[i] + v[i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] u, double[] v, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = u[i] - v[i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] u, double[] v, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = u[i] * v[i];
+        }
+    }
+
+    @Override
+    public void divide(double[] u, double[] v, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Math.abs(v[i]) < 1e-12) {
+                log.error("Деление на ноль: {} / {}", u[i], v[i]);
+                throw new ArithmeticException();
+            }
+            out[i] = u[i] / v[i];
+        }
+    }
+
+    @Override
+    public int firstMismatch(double[] a, double[] b, int from, int to, double tolerance) {
+        for (int i = from; i < to; i++) {
+            if (Math.abs(a[i] - b[i]) > tolerance) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,11 +1,9 @@
 package operations;
 
 import concurrent.SynchronizedTabulatedFunction;
-import functions.Point;
 import functions.TabulatedFunction;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import functions.factory.TabulatedFunctionFactory;
-import static operations.TabulatedFunctionOperationService.asPoints;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -14,23 +12,23 @@ public class TabulatedDifferentialOperator implements DifferentialOperator<Tabul
     @Override
     public TabulatedFunction derive(TabulatedFunction function){
         log.info("Вычисление производной табулированной функции с {} точками", function.getCount());
-        Point[] points = asPoints(function);
-        int count = points.length;
+        int count = function.getCount();
         double[] xValues = new double[count];
         double[] yValues = new double[count];
+        function.copyXValues(0, xValues, 0, count);
+        function.copyYValues(0, yValues, 0, count);
+        // y[i + 1] ещё не перезаписан, поэтому разности считаются на месте
         for(int i=0; i < count - 1; i++) {
-            xValues[i] = points[i].x;
-            double dx = (points[i + 1].x - points[i].x);
+            double dx = (xValues[i + 1] - xValues[i]);
             if (Math.abs(dx) < 1e-12) {
-                log.error("Деление на ноль при вычислении производной в точке {}: dx = {}", points[i].x, dx);
+                log.error("Деление на ноль при вычислении производной в точке {}: dx = {}", xValues[i], dx);
                 throw new ArithmeticException();
             }
-            yValues[i] = (points[i + 1].y - points[i].y) / dx;
+            yValues[i] = (yValues[i + 1] - yValues[i]) / dx;
         }
-        xValues[count-1] = points[count - 1].x;
         yValues[count - 1] = yValues[count-2];
         log.info("Производная успешно вычислена, создана новая функция с {} точками", count);
-        return factory.create(xValues, yValues);
+        return factory.wrap(xValues, yValues);
     }
 
     public TabulatedFunction deriveSynchronously(TabulatedFunction function) {
@@ -0,0 +1,166 @@
+package operations;
+
+import exceptions.InconsistentFunctionsException;
+import functions.TabulatedFunction;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+// Отложенное выражение над табулированными функциями с общей сеткой X.
+// Операции только запоминаются; materialize() копирует столбцы Y каждой
+// исходной функции один раз и вычисляет всё выражение за один проход по точкам,
+// без промежуточных функций и массивов.
+@Slf4j
+public final class TabulatedExpression {
+
+    private enum Operation {
+        SUM("+"), SUBTRACT("-"), MULTIPLY("*"), DIVIDE("/");
+
+        private final String symbol;
+
+        Operation(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    // Значение выражения в точке с данным индексом
+    private interface PointOperation {
+        double at(int index);
+    }
+
+    private final TabulatedFunctionOperationService service;
+    // Лист выражения: функция задана, операция и операнды null
+    private final TabulatedFunction function;
+    private final Operation operation;
+    private final TabulatedExpression left;
+    private final TabulatedExpression right;
+
+    TabulatedExpression(TabulatedFunctionOperationService service, TabulatedFunction function) {
+        this.service = service;
+        this.function = function;
+        this.operation = null;
+        this.left = null;
+        this.right = null;
+    }
+
+    private TabulatedExpression(TabulatedExpression left, Operation operation, TabulatedExpression right) {
+        this.service = left.service;
+        this.function = null;
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+    }
+
+    public TabulatedExpression plus(TabulatedExpression other) {
+        return new TabulatedExpression(this, Operation.SUM, other);
+    }
+
+    public TabulatedExpression plus(TabulatedFunction other) {
+        return plus(service.expression(other));
+    }
+
+    public TabulatedExpression minus(TabulatedExpression other) {
+        return new TabulatedExpression(this, Operation.SUBTRACT, other);
+    }
+
+    public TabulatedExpression minus(TabulatedFunction other) {
+        return minus(service.expression(other));
+    }
+
+    public TabulatedExpression times(TabulatedExpression other) {
+        return new TabulatedExpression(this, Operation.MULTIPLY, other);
+    }
+
+    public TabulatedExpression times(TabulatedFunction other) {
+        return times(service.expression(other));
+    }
+
+    public TabulatedExpression dividedBy(TabulatedExpression other) {
+        return new TabulatedExpression(this, Operation.DIVIDE, other);
+    }
+
+    public TabulatedExpression dividedBy(TabulatedFunction other) {
+        return dividedBy(service.expression(other));
+    }
+
+    public TabulatedFunction materialize() {
+        log.info("Вычисление выражения {}", this);
+        List<TabulatedFunction> sources = new ArrayList<>();
+        collectSources(sources, new IdentityHashMap<>());
+
+        TabulatedFunction first = sources.get(0);
+        int count = first.getCount();
+        double[] xValues = new double[count];
+        first.copyXValues(0, xValues, 0, count);
+
+        // столбцы Y копируются по одному разу на функцию, даже если она встречается несколько раз
+        Map<TabulatedFunction, double[]> columns = new IdentityHashMap<>();
+        double[] xValuesG = sources.size() > 1 ? new double[count] : null;
+        for (TabulatedFunction source : sources) {
+            if (source != first) {
+                if (source.getCount() != count) {
+                    log.error("Несовпадение количества точек: {} != {}", count, source.getCount());
+                    throw new InconsistentFunctionsException();
+                }
+                source.copyXValues(0, xValuesG, 0, count);
+                service.checkGrid(xValues, xValuesG, 0, count);
+            }
+            double[] yValues = new double[count];
+            source.copyYValues(0, yValues, 0, count);
+            columns.put(source, yValues);
+        }
+
+        PointOperation root = compile(columns);
+        double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = root.at(i);
+        }
+        log.info("Выражение вычислено: {} исходных функций, {} точек", sources.size(), count);
+        return service.getFactory().wrap(xValues, result);
+    }
+
+    private void collectSources(List<TabulatedFunction> sources, Map<TabulatedFunction, Boolean> seen) {
+        if (function != null) {
+            if (seen.put(function, Boolean.TRUE) == null) {
+                sources.add(function);
+            }
+            return;
+        }
+        left.collectSources(sources, seen);
+        right.collectSources(sources, seen);
+    }
+
+    private PointOperation compile(Map<TabulatedFunction, double[]> columns) {
+        if (function != null) {
+            double[] column = columns.get(function);
+            return index -> column[index];
+        }
+        PointOperation u = left.compile(columns);
+        PointOperation v = right.compile(columns);
+        return switch (operation) {
+            case SUM -> index -> u.at(index) + v.at(index);
+            case SUBTRACT -> index -> u.at(index) - v.at(index);
+            case MULTIPLY -> index -> u.at(index) * v.at(index);
+            case DIVIDE -> index -> {
+                double numerator = u.at(index);
+                double denominator = v.at(index);
+                if (Math.abs(denominator) < 1e-12) {
+                    log.error("Деление на ноль: {} / {}", numerator, denominator);
+                    throw new ArithmeticException();
+                }
+                return numerator / denominator;
+            };
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (function != null) {
+            return function.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(function));
+        }
+        return "(" + left + " " + operation.symbol + " " + right + ")";
+    }
+}
@@ -10,24 +10,58 @@ import java.lang.management.GarbageCollectorMXBean;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class TabulatedFunctionOperationService {
 
-    TabulatedFunctionFactory factory;
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
 
-    private interface BiOperation {
-        double apply(double u, double v);
+    TabulatedFunctionFactory factory;
+    private final ElementwiseKernels kernels;
+    // Параллельный режим по умолчанию включён, если задан пул
+    private final ForkJoinPool pool;
+    // Диапазоны индексов длиннее порога делятся между задачами
+    private final int parallelThreshold;
+
+    // Операция над столбцами Y на диапазоне индексов, см. ElementwiseKernels
+    private interface ColumnOperation {
+        void apply(double[] u, double[] v, double[] out, int from, int to);
     }
 
     public TabulatedFunctionOperationService(TabulatedFunctionFactory factory) {
+        this(factory, ElementwiseKernels.preferred());
+    }
+
+    public TabulatedFunctionOperationService(TabulatedFunctionFactory factory, ElementwiseKernels kernels) {
+        this(factory, kernels, null, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public TabulatedFunctionOperationService(TabulatedFunctionFactory factory, ForkJoinPool pool, int parallelThreshold) {
+        this(factory, ElementwiseKernels.preferred(), pool, parallelThreshold);
+    }
+
+    public TabulatedFunctionOperationService(TabulatedFunctionFactory factory, ElementwiseKernels kernels, ForkJoinPool pool, int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            log.error("Неверный порог параллельного выполнения: {}", parallelThreshold);
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + parallelThreshold);
+        }
         this.factory = factory;
-        log.info("Создан TabulatedFunctionOperationService с фабрикой {}", factory.getClass().getSimpleName());
+        this.kernels = kernels;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        log.info("Создан TabulatedFunctionOperationService с фабрикой {}, ядра {}, параллельный режим: {}",
+                factory.getClass().getSimpleName(), kernels.getClass().getSimpleName(), pool != null);
     }
 
     public TabulatedFunctionOperationService() {
         this.factory = new ArrayTabulatedFunctionFactory();
+        this.kernels = ElementwiseKernels.preferred();
+        this.pool = null;
+        this.parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
         log.info("Создан TabulatedFunctionOperationService с фабрикой по умолчанию");
     }
 
@@ -44,75 +78,174 @@ public class TabulatedFunctionOperationService {
         log.debug("Преобразование функции в массив точек, количество: {}", tabulatedFunction.getCount());
         Point[] points = new Point[tabulatedFunction.getCount()];
 
-        int i = 0;
-        for (Point point : tabulatedFunction) {
-            points[i++] = new Point(point.x, point.y);
-        }
+        int[] i = {0};
+        tabulatedFunction.forEachPoint((x, y) -> points[i[0]++] = new Point(x, y));
 
         return points;
     }
 
-    private TabulatedFunction doOperation(TabulatedFunction a, TabulatedFunction b, BiOperation operation) {
-        log.info("Выполнение операции над функциями: {} и {}", a.getClass().getSimpleName(), b.getClass().getSimpleName());
-        if (a.getCount() != b.getCount()) {
-            log.error("Несовпадение количества точек: {} != {}", a.getCount(), b.getCount());
+    // Проверка сетки (operation == null) или операция на части индексов; задачи пишут
+    // в общие массивы и прекращают работу, как только одна из них обнаружила ошибку
+    private final class ColumnTask extends RecursiveAction {
+        private final double[] xValues;
+        private final double[] xValuesG;
+        private final double[] yValues;
+        private final double[] yValuesG;
+        private final ColumnOperation operation;
+        private final int from;
+        private final int to;
+        private final AtomicBoolean failed;
+
+        private ColumnTask(double[] xValues, double[] xValuesG, double[] yValues, double[] yValuesG,
+                           ColumnOperation operation, int from, int to, AtomicBoolean failed) {
+            this.xValues = xValues;
+            this.xValuesG = xValuesG;
+            this.yValues = yValues;
+            this.yValuesG = yValuesG;
+            this.operation = operation;
+            this.from = from;
+            this.to = to;
+            this.failed = failed;
+        }
+
+        @Override
+        protected void compute() {
+            if (failed.get()) {
+                return;
+            }
+            if (to - from > parallelThreshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ColumnTask(xValues, xValuesG, yValues, yValuesG, operation, from, middle, failed),
+                        new ColumnTask(xValues, xValuesG, yValues, yValuesG, operation, middle, to, failed));
+                return;
+            }
+            try {
+                if (operation == null) {
+                    checkGrid(xValues, xValuesG, from, to);
+                }
+                else {
+                    operation.apply(yValues, yValuesG, yValues, from, to);
+                }
+            } catch (RuntimeException e) {
+                failed.set(true);
+                throw e;
+            }
+        }
+    }
+
+    void checkGrid(double[] xValues, double[] xValuesG, int from, int to) {
+        int mismatch = kernels.firstMismatch(xValues, xValuesG, from, to, 1e-9);
+        if (mismatch >= 0) {
+            log.error("Несовпадение X-координат в точке {}: {} != {}",
+                    mismatch, xValues[mismatch], xValuesG[mismatch]);
             throw new InconsistentFunctionsException();
         }
+    }
 
-        Point[] pointsF = asPoints(a);
-        Point[] pointsG = asPoints(b);
+    private TabulatedFunction doOperation(TabulatedFunction a, TabulatedFunction b, ColumnOperation operation, boolean parallel, GridMode mode) {
+        log.info("Выполнение операции над функциями: {} и {}, режим сетки {}", a.getClass().getSimpleName(), b.getClass().getSimpleName(), mode);
+        if (mode == GridMode.STRICT && a.getCount() != b.getCount()) {
+            log.error("Несовпадение количества точек: {} != {}", a.getCount(), b.getCount());
+            throw new InconsistentFunctionsException();
+        }
 
+        // столбцы a становятся столбцами результата, столбцы b - временные
         double[] xValues = new double[a.getCount()];
         double[] yValues = new double[a.getCount()];
+        double[] xValuesG = new double[b.getCount()];
+        double[] yValuesG = new double[b.getCount()];
+        a.copyXValues(0, xValues, 0, xValues.length);
+        a.copyYValues(0, yValues, 0, yValues.length);
+        b.copyXValues(0, xValuesG, 0, xValuesG.length);
+        b.copyYValues(0, yValuesG, 0, yValuesG.length);
+
+        if (mode != GridMode.STRICT) {
+            // после совмещения сетки одинаковы, проверка сетки проходит сразу
+            GridResampler resampled = GridResampler.resample(xValues, yValues, xValuesG, yValuesG, mode);
+            xValues = resampled.xValues;
+            xValuesG = resampled.xValues;
+            yValues = resampled.yValuesA;
+            yValuesG = resampled.yValuesB;
+        }
 
-        for (int i = 0; i < a.getCount(); ++i) {
-            if (Math.abs(pointsF[i].x - pointsG[i].x) > 1e-9) {
-                log.error("Несовпадение X-координат в точке {}: {} != {}",
-                        i, pointsF[i].x, pointsG[i].x);
-                throw new InconsistentFunctionsException();
-            }
-            xValues[i] = pointsF[i].x;
-            yValues[i] = operation.apply(pointsF[i].y, pointsG[i].y);
+        int count = xValues.length;
+        // копирование последовательное: реализации функций не обязаны
+        // допускать параллельное чтение (например, ленивый индекс связного списка)
+        if (parallel && count > parallelThreshold) {
+            ForkJoinPool executor = pool != null ? pool : ForkJoinPool.commonPool();
+            log.debug("Параллельное выполнение на {} потоках, порог {}", executor.getParallelism(), parallelThreshold);
+            // сначала вся сетка, затем операция, как в последовательном режиме: иначе при
+            // несовпадении сетки и делении на ноль исключение зависело бы от порядка задач
+            executor.invoke(new ColumnTask(xValues, xValuesG, yValues, yValuesG, null, 0, count, new AtomicBoolean()));
+            executor.invoke(new ColumnTask(xValues, xValuesG, yValues, yValuesG, operation, 0, count, new AtomicBoolean()));
+        }
+        else {
+            checkGrid(xValues, xValuesG, 0, count);
+            operation.apply(yValues, yValuesG, yValues, 0, count);
         }
-        log.info("Операция над функциями завершена, создана новая функция с {} точками", a.getCount());
-        return factory.create(xValues, yValues);
+        log.info("Операция над функциями завершена, создана новая функция с {} точками", count);
+        return factory.wrap(xValues, yValues);
+    }
+
+    // Начало отложенного выражения, см. TabulatedExpression
+    public TabulatedExpression expression(TabulatedFunction function) {
+        return new TabulatedExpression(this, function);
     }
 
     public TabulatedFunction sum(TabulatedFunction F, TabulatedFunction G) {
+        return sum(F, G, pool != null);
+    }
+
+    public TabulatedFunction sum(TabulatedFunction F, TabulatedFunction G, boolean parallel) {
         log.debug("Сложение функций: {} + {}", F.getClass().getSimpleName(), G.getClass().getSimpleName());
-        return doOperation(F, G, new BiOperation() {
-            @Override
-            public double apply(double u, double v) { return u + v; }
-        });
+        return doOperation(F, G, kernels::sum, parallel, GridMode.STRICT);
     }
 
     public TabulatedFunction subtract(TabulatedFunction F, TabulatedFunction G) {
+        return subtract(F, G, pool != null);
+    }
+
+    public TabulatedFunction subtract(TabulatedFunction F, TabulatedFunction G, boolean parallel) {
         log.debug("Вычитание функций: {} - {}", F.getClass().getSimpleName(), G.getClass().getSimpleName());
-        return doOperation(F, G, new BiOperation() {
-            @Override
-            public double apply (double u, double v) { return u - v; }
-        });
+        return doOperation(F, G, kernels::subtract, parallel, GridMode.STRICT);
     }
 
     public TabulatedFunction multiply(TabulatedFunction F, TabulatedFunction G){
+        return multiply(F, G, pool != null);
+    }
+
+    public TabulatedFunction multiply(TabulatedFunction F, TabulatedFunction G, boolean parallel){
         log.debug("Умножение функций: {} * {}", F.getClass().getSimpleName(), G.getClass().getSimpleName());
-        return doOperation(F, G, new BiOperation() {
-            @Override
-            public double apply (double u, double v) { return u * v; }
-        });
+        return doOperation(F, G, kernels::multiply, parallel, GridMode.STRICT);
     }
 
     public TabulatedFunction divide(TabulatedFunction F, TabulatedFunction G){
+        return divide(F, G, pool != null);
+    }
+
+    public TabulatedFunction divide(TabulatedFunction F, TabulatedFunction G, boolean parallel){
         log.debug("Деление функций: {} / {}", F.getClass().getSimpleName(), G.getClass().getSimpleName());
-        return doOperation(F, G, new BiOperation() {
-            @Override
-            public double apply (double u, double v) {
-                if (Math.abs(v) < 1e-12) {
-                    log.error("Деление на ноль: {} / {}", u, v);
-                    throw new ArithmeticException();
-                }
-                return u / v;
-            }
-        });
+        return doOperation(F, G, kernels::divide, parallel, GridMode.STRICT);
+    }
+
+    // Операции над функциями с разными сетками, см. GridMode
+    public TabulatedFunction sum(TabulatedFunction F, TabulatedFunction G, GridMode mode) {
+        log.debug("Сложение функций: {} + {}", F.getClass().getSimpleName(), G.getClass().getSimpleName());
+        return doOperation(F, G, kernels::sum, pool != null, mode);
+    }
+
+    public TabulatedFunction subtract(TabulatedFunction F, TabulatedFunction G, GridMode mode) {
+        log.debug("Вычитание функций: {} - {}", F.getClass().getSimpleName(), G.getClass().getSimpleName());
+        return doOperation(F, G, kernels::subtract, pool != null, mode);
+    }
+
+    public TabulatedFunction multiply(TabulatedFunction F, TabulatedFunction G, GridMode mode) {
+        log.debug("Умножение функций: {} * {}", F.getClass().getSimpleName(), G.getClass().getSimpleName());
+        return doOperation(F, G, kernels::multiply, pool != null, mode);
+    }
+
+    public TabulatedFunction divide(TabulatedFunction F, TabulatedFunction G, GridMode mode) {
+        log.debug("Деление функций: {} / {}", F.getClass().getSimpleName(), G.getClass().getSimpleName());
+        return doOperation(F, G, kernels::divide, pool != null, mode);
     }
-}
\ No newline at end of file
+}
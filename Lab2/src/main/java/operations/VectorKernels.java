@@ -0,0 +1,93 @@
+package operations;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.extern.slf4j.Slf4j;
+
+// Ядра на DoubleVector: основная часть диапазона обрабатывается целыми векторами,
+// хвост короче вектора - скалярно
+@Slf4j
+final class VectorKernels implements ElementwiseKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    static boolean isAccelerated() {
+        return SPECIES.length() >= 2;
+    }
+
+    @Override
+    public void sum(double[] u, double[] v, double[] out, int from, int to) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, u, i).add(DoubleVector.fromArray(SPECIES, v, i)).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = u[i] + v[i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] u, double[] v, double[] out, int from, int to) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, u, i).sub(DoubleVector.fromArray(SPECIES, v, i)).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = u[i] - v[i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] u, double[] v, double[] out, int from, int to) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, u, i).mul(DoubleVector.fromArray(SPECIES, v, i)).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            out[i] = u[i] * v[i];
+        }
+    }
+
+    @Override
+    public void divide(double[] u, double[] v, double[] out, int from, int to) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector divisor = DoubleVector.fromArray(SPECIES, v, i);
+            VectorMask<Double> zero = divisor.abs().compare(VectorOperators.LT, 1e-12);
+            if (zero.anyTrue()) {
+                int index = i + zero.firstTrue();
+                log.error("Деление на ноль: {} / {}", u[index], v[index]);
+                throw new ArithmeticException();
+            }
+            DoubleVector.fromArray(SPECIES, u, i).div(divisor).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            if (Math.abs(v[i]) < 1e-12) {
+                log.error("Деление на ноль: {} / {}", u[i], v[i]);
+                throw new ArithmeticException();
+            }
+            out[i] = u[i] / v[i];
+        }
+    }
+
+    @Override
+    public int firstMismatch(double[] a, double[] b, int from, int to, double tolerance) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            VectorMask<Double> mismatch = DoubleVector.fromArray(SPECIES, a, i)
+                    .sub(DoubleVector.fromArray(SPECIES, b, i))
+                    .abs()
+                    .compare(VectorOperators.GT, tolerance);
+            if (mismatch.anyTrue()) {
+                return i + mismatch.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (Math.abs(a[i] - b[i]) > tolerance) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,140 @@
+package concurrent;
+
+import functions.ArrayTabulatedFunction;
+import functions.Point;
+import functions.SqrFunction;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyOnWriteTabulatedFunctionTest {
+    @Test
+    void testReads() {
+        double[] x = {0, 1, 2, 3};
+        double[] y = {0, 1, 4, 9};
+        CopyOnWriteTabulatedFunction func = new CopyOnWriteTabulatedFunction(x, y);
+
+        assertEquals(4, func.getCount());
+        assertEquals(2.0, func.getX(2));
+        assertEquals(9.0, func.getY(3));
+        assertEquals(2, func.indexOfX(2.0));
+        assertEquals(-1, func.indexOfX(2.5));
+        assertEquals(3, func.indexOfY(9.0));
+        assertEquals(0.0, func.leftBound());
+        assertEquals(3.0, func.rightBound());
+        assertEquals(2.5, func.apply(1.5), 1e-12);
+        assertEquals(-1.0, func.apply(-1.0), 1e-12);
+        assertEquals(14.0, func.apply(4.0), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> func.getX(4));
+
+        x[0] = -5;
+        assertEquals(0.0, func.leftBound());
+    }
+
+    @Test
+    void testMatchesArrayTabulatedFunction() {
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(new SqrFunction(), -3.0, 2.0, 101);
+        CopyOnWriteTabulatedFunction func = new CopyOnWriteTabulatedFunction(expected);
+        for (double x = -4.0; x <= 3.0; x += 0.0137) {
+            assertEquals(expected.apply(x), func.apply(x), 1e-12);
+        }
+    }
+
+    @Test
+    void testWrites() {
+        CopyOnWriteTabulatedFunction func = new CopyOnWriteTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 1, 4});
+        func.setY(1, 5.0);
+        assertEquals(5.0, func.getY(1));
+
+        func.insert(1.5, 2.0);
+        func.insert(1.0, 3.0);
+        func.insert(-1.0, 1.0);
+        assertEquals(5, func.getCount());
+        assertEquals(-1.0, func.leftBound());
+        assertEquals(3.0, func.getY(2));
+        assertEquals(1.5, func.getX(3));
+
+        func.insertAll(new double[]{0.0, 0.5, 3.0}, new double[]{7.0, 8.0, 9.0});
+        assertEquals(7, func.getCount());
+        assertEquals(7.0, func.getY(1));
+        assertEquals(0.5, func.getX(2));
+        assertEquals(3.0, func.rightBound());
+
+        func.remove(0);
+        assertEquals(0.0, func.leftBound());
+        func.removeRange(1, 3);
+        assertEquals(4, func.getCount());
+        assertEquals(1.5, func.getX(1));
+        assertEquals(2, func.removeIf((x, y) -> y > 5.0));
+        assertEquals(1.5, func.leftBound());
+        assertEquals(2.0, func.rightBound());
+        assertThrows(IllegalArgumentException.class, () -> func.remove(2));
+        assertThrows(IllegalArgumentException.class, () -> func.setY(-1, 0));
+    }
+
+    @Test
+    void testIteratorSeesSnapshot() {
+        CopyOnWriteTabulatedFunction func = new CopyOnWriteTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 1, 4});
+        Iterator<Point> iterator = func.iterator();
+        func.setY(0, 10.0);
+        func.insert(3.0, 9.0);
+        assertEquals(0.0, iterator.next().y);
+        iterator.next();
+        iterator.next();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(10.0, func.iterator().next().y);
+    }
+
+    @Test
+    void testReadersDuringWrites() throws InterruptedException {
+        CopyOnWriteTabulatedFunction func = new CopyOnWriteTabulatedFunction(new double[]{0, 1}, new double[]{0, 1});
+        AtomicInteger failures = new AtomicInteger();
+        Thread writer = new Thread(() -> {
+            for (int i = 2; i < 2000; i++) {
+                func.insert(i, i);
+            }
+        });
+        Thread reader = new Thread(() -> {
+            while (func.getCount() < 2000) {
+                double previous = Double.NEGATIVE_INFINITY;
+                for (Point point : func) {
+                    if (point.x <= previous || point.x != point.y) {
+                        failures.incrementAndGet();
+                    }
+                    previous = point.x;
+                }
+                if (func.apply(0.5) != 0.5) {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        writer.start();
+        writer.join();
+        reader.join();
+        assertEquals(0, failures.get());
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        CopyOnWriteTabulatedFunction func = new CopyOnWriteTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 1, 4});
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(func);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            CopyOnWriteTabulatedFunction restored = (CopyOnWriteTabulatedFunction) in.readObject();
+            assertEquals(3, restored.getCount());
+            assertEquals(2.5, restored.apply(1.5), 1e-12);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package concurrent;
+
+import functions.ArrayTabulatedFunction;
+import functions.IdentityFunction;
+import functions.Insertable;
+import functions.LinkedListTabulatedFunction;
+import functions.Point;
+import functions.Removable;
+import functions.SqrFunction;
+import functions.TabulatedFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StampedTabulatedFunctionTest {
+    @Test
+    void testDelegation() {
+        double[] x = {0, 1, 2, 3};
+        double[] y = {0, 1, 4, 9};
+        TabulatedFunction func = new ArrayTabulatedFunction(x, y);
+        StampedTabulatedFunction stampedFunc = new StampedTabulatedFunction(func);
+
+        assertEquals(4, stampedFunc.getCount());
+        assertEquals(2.0, stampedFunc.getX(2));
+        assertEquals(9.0, stampedFunc.getY(3));
+        assertEquals(2, stampedFunc.indexOfX(2.0));
+        assertEquals(3, stampedFunc.indexOfY(9.0));
+        assertEquals(0.0, stampedFunc.leftBound());
+        assertEquals(3.0, stampedFunc.rightBound());
+        assertEquals(2.5, stampedFunc.apply(1.5), 1e-12);
+
+        stampedFunc.setY(1, 10.5);
+        assertEquals(10.5, func.getY(1));
+    }
+
+    @Test
+    void testExceptionsPropagate() {
+        StampedTabulatedFunction stampedFunc = new StampedTabulatedFunction(new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> stampedFunc.getX(5));
+        assertThrows(IllegalArgumentException.class, () -> stampedFunc.setY(-1, 0));
+    }
+
+    @Test
+    void testIterator() {
+        double[] x = {0.0, 1.0, 2.0};
+        double[] y = {0.0, 1.0, 4.0};
+        StampedTabulatedFunction stampedFunc = new StampedTabulatedFunction(new ArrayTabulatedFunction(x, y));
+        Iterator<Point> iterator = stampedFunc.iterator();
+        for (int i = 0; i < 3; i++) {
+            Point point = iterator.next();
+            assertEquals(x[i], point.x, 0.0001);
+            assertEquals(y[i], point.y, 0.0001);
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void testDoSynchronouslyIsReentrant() {
+        double[] x = {0, 1, 2};
+        double[] y = {0, 1, 4};
+        TabulatedFunction baseFunc = new ArrayTabulatedFunction(x, y);
+        StampedTabulatedFunction stampedFunc = new StampedTabulatedFunction(baseFunc);
+
+        Double result = stampedFunc.doSynchronously(f -> {
+            for (int i = 0; i < f.getCount(); i++) {
+                f.setY(i, f.getY(i) + 1);
+            }
+            int points = 0;
+            for (Point ignored : f) {
+                points++;
+            }
+            return f.doSynchronously(g -> g.apply(0.5)) + points;
+        });
+
+        assertEquals(4.5, result, 1e-12);
+        assertEquals(5.0, baseFunc.getY(2));
+    }
+
+    @Test
+    void testConcurrentIncrements() throws InterruptedException {
+        StampedTabulatedFunction stampedFunc = new StampedTabulatedFunction(new LinkedListTabulatedFunction(new SqrFunction(), 0, 9, 10));
+        AtomicInteger failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    stampedFunc.doSynchronously(f -> {
+                        f.setY(0, f.getY(0) + 1);
+                        return null;
+                    });
+                    double value = stampedFunc.apply(4.5);
+                    if (value < 20.0) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, failures.get());
+        assertEquals(8000.0, stampedFunc.getY(0), 1e-12);
+    }
+
+    @Test
+    void testReadsUnderConcurrentStructuralWriter() throws InterruptedException {
+        assertReadsUnderStructuralWriter(new LinkedListTabulatedFunction(new IdentityFunction(), 0, 199, 200));
+        assertReadsUnderStructuralWriter(new ArrayTabulatedFunction(new IdentityFunction(), 0, 199, 200));
+    }
+
+    // Обход LinkedListTabulatedFunction держит блокировку записи: чтение из другого потока
+    // ждёт его окончания. Чтения ArrayTabulatedFunction идут параллельно с обходом.
+    @Test
+    void testImpureReadsAreExclusive() throws InterruptedException {
+        assertFalse(readsDuringTraversal(new LinkedListTabulatedFunction(new IdentityFunction(), 0, 9, 10)));
+        assertTrue(readsDuringTraversal(new ArrayTabulatedFunction(new IdentityFunction(), 0, 9, 10)));
+        // возможность объявляет сама функция, а не её класс
+        assertFalse(readsDuringTraversal(new ArrayTabulatedFunction(new IdentityFunction(), 0, 9, 10) {
+            @Override
+            public boolean hasPureReads() {
+                return false;
+            }
+        }));
+    }
+
+    @Test
+    void testInvalidIndexUnderOptimisticRead() {
+        StampedTabulatedFunction stampedFunc = new StampedTabulatedFunction(new ArrayTabulatedFunction(new IdentityFunction(), 0, 9, 10));
+        assertThrows(IllegalArgumentException.class, () -> stampedFunc.getX(10));
+        assertThrows(IllegalArgumentException.class, () -> stampedFunc.getY(-1));
+        assertEquals(9.0, stampedFunc.getY(9), 1e-12);
+    }
+
+    private static boolean readsDuringTraversal(TabulatedFunction baseFunc) throws InterruptedException {
+        StampedTabulatedFunction stampedFunc = new StampedTabulatedFunction(baseFunc);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread traversal = new Thread(() -> stampedFunc.forEachPoint((x, y) -> {
+            inside.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        traversal.start();
+        inside.await();
+        CountDownLatch read = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            stampedFunc.getX(5);
+            read.countDown();
+        });
+        reader.start();
+        boolean concurrent = read.await(200, TimeUnit.MILLISECONDS);
+        release.countDown();
+        traversal.join();
+        reader.join();
+        return concurrent;
+    }
+
+    // Писатель вставляет и удаляет первую точку внутри одной операции, так что
+    // между операциями содержимое функции не меняется и каждое чтение обязано его видеть
+    private static <F extends TabulatedFunction & Insertable & Removable> void assertReadsUnderStructuralWriter(F baseFunc) throws InterruptedException {
+        StampedTabulatedFunction stampedFunc = new StampedTabulatedFunction(baseFunc);
+        AtomicBoolean reading = new AtomicBoolean(true);
+        AtomicInteger failures = new AtomicInteger();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            readers.add(new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    for (int i = 100; i < 110; i++) {
+                        if (stampedFunc.getX(i) != i) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        Thread writer = new Thread(() -> {
+            while (reading.get()) {
+                stampedFunc.doSynchronously(f -> {
+                    baseFunc.insert(-0.5, 0);
+                    baseFunc.remove(0);
+                    return null;
+                });
+            }
+        });
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        reading.set(false);
+        writer.join();
+        assertEquals(0, failures.get(), baseFunc.getClass().getSimpleName());
+        assertEquals(200, stampedFunc.getCount());
+    }
+}
@@ -0,0 +1,89 @@
+package concurrent;
+
+import functions.ArrayTabulatedFunction;
+import functions.Point;
+import functions.UnitFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedTabulatedFunctionTest {
+    @Test
+    void testDelegation() {
+        double[] x = {0, 1, 2, 3};
+        double[] y = {0, 1, 4, 9};
+        StripedTabulatedFunction func = new StripedTabulatedFunction(new ArrayTabulatedFunction(x, y));
+
+        assertEquals(4, func.getCount());
+        assertEquals(2.0, func.getX(2));
+        assertEquals(9.0, func.getY(3));
+        assertEquals(2, func.indexOfX(2.0));
+        assertEquals(3, func.indexOfY(9.0));
+        assertEquals(0.0, func.leftBound());
+        assertEquals(3.0, func.rightBound());
+        assertEquals(2.5, func.apply(1.5), 1e-12);
+
+        func.setY(1, 10.5);
+        assertEquals(10.5, func.getY(1));
+        assertEquals(21.0, func.updateY(1, v -> 2 * v));
+        assertThrows(IllegalArgumentException.class, () -> func.setY(4, 0));
+        assertThrows(IllegalArgumentException.class, () -> func.getY(-1));
+    }
+
+    @Test
+    void testStructuralChanges() {
+        StripedTabulatedFunction func = new StripedTabulatedFunction(new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 1, 4}));
+        func.insert(1.5, 2.0);
+        assertEquals(4, func.getCount());
+        assertEquals(2.0, func.getY(2));
+        func.insertAll(new double[]{3.0, 4.0}, new double[]{9.0, 16.0});
+        assertEquals(4.0, func.rightBound());
+        func.remove(0);
+        assertEquals(1.0, func.leftBound());
+        func.removeRange(0, 2);
+        assertEquals(3, func.getCount());
+        assertEquals(1, func.removeIf((x, y) -> y > 10));
+        assertEquals(3.0, func.rightBound());
+    }
+
+    @Test
+    void testIterator() {
+        StripedTabulatedFunction func = new StripedTabulatedFunction(new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{5, 6}));
+        Iterator<Point> iterator = func.iterator();
+        assertEquals(5.0, iterator.next().y);
+        assertEquals(6.0, iterator.next().y);
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void testParallelMultiplying() throws InterruptedException {
+        StripedTabulatedFunction func = new StripedTabulatedFunction(new ArrayTabulatedFunction(new UnitFunction(), 1, 1000, 1000));
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            threads.add(new Thread(new MultiplyingTask(func)));
+        }
+        Thread inserter = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                func.insert(1000.5 + i, 1024.0);
+            }
+        });
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        inserter.start();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        inserter.join();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(1024.0, func.getY(i), 1e-12);
+        }
+        assertEquals(1100, func.getCount());
+    }
+}
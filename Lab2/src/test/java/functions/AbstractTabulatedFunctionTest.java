@@ -3,6 +3,10 @@ package functions;
 import exceptions.ArrayIsNotSortedException;
 import exceptions.DifferentLengthOfArraysException;
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -30,4 +34,61 @@ class AbstractTabulatedFunctionTest {
         double[] array3 = {1, 1, 2};
         assertThrows(ArrayIsNotSortedException.class, () -> AbstractTabulatedFunction.checkSorted(array3));
     }
-}
\ No newline at end of file
+
+    private static void assertApplyAllMatchesApply(TabulatedFunction function, double[] xs) {
+        double[] out = new double[xs.length + 2];
+        function.applyAll(xs, out, 0, xs.length);
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(function.apply(xs[i]), out[i], 0.0, "x = " + xs[i]);
+        }
+        assertEquals(0.0, out[xs.length]);
+    }
+
+    @Test
+    void applyAllTest() {
+        Random random = new Random(7);
+        double[] xValues = new double[500];
+        double[] yValues = new double[500];
+        double x = 0;
+        for (int i = 0; i < xValues.length; i++) {
+            x += 0.1 + random.nextDouble();
+            xValues[i] = x;
+            yValues[i] = random.nextDouble() * 100;
+        }
+        double[] queries = new double[3000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = -50 + random.nextDouble() * (x + 100);
+        }
+        // точные совпадения и почти совпадения с узлами таблицы
+        for (int i = 0; i < 200; i++) {
+            queries[i] = xValues[random.nextInt(xValues.length)] + (i % 2 == 0 ? 0.0 : 5e-13);
+        }
+        double[] sorted = queries.clone();
+        Arrays.sort(sorted);
+
+        TabulatedFunction[] functions = {
+                new ArrayTabulatedFunction(xValues, yValues),
+                new LinkedListTabulatedFunction(xValues, yValues),
+                new BPlusTreeTabulatedFunction(xValues, yValues),
+                new ArrayTabulatedFunction(new SqrFunction(), -3, 3, 101)
+        };
+        for (TabulatedFunction function : functions) {
+            assertApplyAllMatchesApply(function, sorted);
+            assertApplyAllMatchesApply(function, queries);
+        }
+    }
+
+    @Test
+    void applyAllRangeInPlaceTest() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{0.0, 1.0, 4.0});
+        double[] values = {7.0, 0.5, 1.5, 3.0, 7.0};
+        function.applyAll(values, values, 1, 4);
+        assertArrayEquals(new double[]{7.0, 0.5, 2.5, 7.0, 7.0}, values, 1e-12);
+
+        CompositeFunction composite = function.andThen(function);
+        double[] out = new double[2];
+        composite.applyAll(new double[]{0.5, 1.5}, out, 0, 2);
+        assertEquals(composite.apply(0.5), out[0], 1e-12);
+        assertEquals(composite.apply(1.5), out[1], 1e-12);
+    }
+}
@@ -5,7 +5,16 @@ import exceptions.DifferentLengthOfArraysException;
 import exceptions.InterpolationException;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -438,4 +447,268 @@ public class ArrayTabulatedFunctionTest {
         }
         assertEquals(xValues.length, i);
     }
+
+    @Test
+    void testBinarySearchOnLargeTable() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0.0, 999.0, 1000);
+
+        assertEquals(0, function.indexOfX(0.0));
+        assertEquals(500, function.indexOfX(500.0));
+        assertEquals(999, function.indexOfX(999.0));
+        assertEquals(-1, function.indexOfX(500.5));
+        assertEquals(500, function.floorIndexOfX(500.5));
+        assertEquals(998, function.floorIndexOfX(998.999));
+        assertEquals(-1, function.floorIndexOfX(500.0));
+        assertEquals(1000, function.floorIndexOfX(1000.0));
+
+        assertEquals(250000.0, function.apply(500.0), 1e-9);
+        assertEquals(250500.5, function.apply(500.5), 1e-9);
+    }
+
+    @Test
+    void testInsertUsesSortedPosition() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 2.0, 4.0, 6.0}, new double[]{0.0, 2.0, 4.0, 6.0});
+
+        function.insert(5.0, 50.0);
+        function.insert(1.0, 10.0);
+        function.insert(-1.0, -10.0);
+        function.insert(7.0, 70.0);
+        function.insert(4.0, 40.0);
+
+        double[] expectedX = {-1.0, 0.0, 1.0, 2.0, 4.0, 5.0, 6.0, 7.0};
+        double[] expectedY = {-10.0, 0.0, 10.0, 2.0, 40.0, 50.0, 6.0, 70.0};
+        assertEquals(expectedX.length, function.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], function.getX(i), 1e-12);
+            assertEquals(expectedY[i], function.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    void testUniformGridLookup() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0.0, 1.0, 11);
+        assertTrue(function.isUniform());
+
+        assertEquals(3, function.indexOfX(0.3));
+        assertEquals(-1, function.indexOfX(0.35));
+        assertEquals(3, function.floorIndexOfX(0.35));
+        assertEquals(-1, function.floorIndexOfX(function.getX(3)));
+        assertEquals(11, function.floorIndexOfX(1.5));
+        assertEquals(0.125, function.apply(0.35), 1e-12);
+        assertEquals(1.0, function.apply(1.0), 1e-12);
+
+        function.remove(10);
+        assertTrue(function.isUniform());
+        assertEquals(9, function.indexOfX(0.9));
+
+        function.insert(0.35, 0.0);
+        assertFalse(function.isUniform());
+        assertEquals(4, function.indexOfX(0.35));
+        assertEquals(0.0, function.apply(0.35), 1e-12);
+    }
+
+    @Test
+    void testArrayConstructorIsNotUniform() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{0.0, 1.0, 4.0});
+        assertFalse(function.isUniform());
+    }
+
+    @Test
+    void testCapacityGrowsGeometrically() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0});
+        assertEquals(2, function.getCapacity());
+
+        int reallocations = 0;
+        int capacity = function.getCapacity();
+        for (int i = 2; i < 1000; i++) {
+            function.insert(i, i);
+            if (function.getCapacity() != capacity) {
+                reallocations++;
+                capacity = function.getCapacity();
+            }
+        }
+        assertEquals(1000, function.getCount());
+        assertTrue(reallocations < 20);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, function.getX(i), 1e-12);
+        }
+
+        function.trimToSize();
+        assertEquals(1000, function.getCapacity());
+        function.ensureCapacity(5000);
+        assertEquals(5000, function.getCapacity());
+        assertEquals(999.0, function.rightBound(), 1e-12);
+    }
+
+    @Test
+    void testCapacityShrinksOnRemove() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new IdentityFunction(), 0.0, 999.0, 1000);
+        while (function.getCount() > 10) {
+            function.remove(0);
+        }
+        assertTrue(function.getCapacity() < 100);
+        assertEquals(990.0, function.leftBound(), 1e-12);
+        assertEquals(999.0, function.rightBound(), 1e-12);
+        assertEquals(995.5, function.apply(995.5), 1e-12);
+    }
+
+    @Test
+    void testSerializationWritesOnlyPoints() throws Exception {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0});
+        function.ensureCapacity(100000);
+        function.insert(2.0, 4.0);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(function);
+        }
+        assertTrue(bytes.size() < 10000);
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ArrayTabulatedFunction restored = (ArrayTabulatedFunction) in.readObject();
+            assertEquals(3, restored.getCount());
+            assertEquals(3, restored.getCapacity());
+            assertEquals(4.0, restored.getY(2), 1e-12);
+        }
+    }
+
+    @Test
+    void testInsertAll() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{1.0, 3.0, 5.0}, new double[]{10.0, 30.0, 50.0});
+
+        function.insertAll(new double[]{0.0, 2.0, 3.0, 4.0, 6.0, 7.0}, new double[]{0.5, 20.0, 33.0, 40.0, 60.0, 70.0});
+
+        double[] expectedX = {0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0};
+        double[] expectedY = {0.5, 10.0, 20.0, 33.0, 40.0, 50.0, 60.0, 70.0};
+        assertEquals(expectedX.length, function.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], function.getX(i), 1e-12);
+            assertEquals(expectedY[i], function.getY(i), 1e-12);
+        }
+        assertEquals(36.5, function.apply(3.5), 1e-12);
+
+        assertThrows(ArrayIsNotSortedException.class, () -> function.insertAll(new double[]{2.0, 1.0}, new double[]{0.0, 0.0}));
+        assertThrows(DifferentLengthOfArraysException.class, () -> function.insertAll(new double[]{8.0}, new double[]{0.0, 0.0}));
+    }
+
+    @Test
+    void testRemoveRange() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new IdentityFunction(), 0.0, 9.0, 10);
+
+        function.removeRange(8, 10);
+        assertTrue(function.isUniform());
+        assertEquals(8, function.getCount());
+
+        function.removeRange(0, 3);
+        assertEquals(5, function.getCount());
+        assertEquals(3.0, function.leftBound(), 1e-12);
+        assertEquals(7.0, function.rightBound(), 1e-12);
+
+        function.removeRange(1, 3);
+        double[] expectedX = {3.0, 6.0, 7.0};
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], function.getX(i), 1e-12);
+        }
+        assertEquals(4.5, function.apply(4.5), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(0, 4));
+    }
+
+    @Test
+    void testRemoveIf() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new IdentityFunction(), 0.0, 9.0, 10);
+
+        int removed = function.removeIf((x, y) -> ((int) x) % 3 == 0);
+
+        assertEquals(4, removed);
+        double[] expectedX = {1.0, 2.0, 4.0, 5.0, 7.0, 8.0};
+        assertEquals(expectedX.length, function.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], function.getX(i), 1e-12);
+        }
+        assertEquals(3.0, function.apply(3.0), 1e-12);
+        assertEquals(0, function.removeIf((x, y) -> y > 100));
+    }
+
+    @Test
+    void testAtomicYUpdates() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{1.0, Double.NaN, 3.0});
+        assertTrue(function.compareAndSetY(0, 1.0, 5.0));
+        assertFalse(function.compareAndSetY(0, 1.0, 6.0));
+        assertEquals(5.0, function.getY(0), 1e-12);
+        assertTrue(function.compareAndSetY(1, Double.NaN, 2.0));
+        assertEquals(6.0, function.updateY(2, y -> 2 * y), 1e-12);
+        assertEquals(10.0, function.accumulateY(2, 4.0, Double::sum), 1e-12);
+        assertEquals(10.0, function.getY(2), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> function.updateY(3, y -> y));
+        assertThrows(IllegalArgumentException.class, () -> function.compareAndSetY(-1, 0.0, 0.0));
+    }
+
+    @Test
+    void testConcurrentAccumulateY() throws InterruptedException {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new ZeroFunction(), 0.0, 3.0, 4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    function.accumulateY(i % 4, 1.0, Double::sum);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(20000.0, function.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    void testForEachPoint() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{0.0, 1.0, 4.0});
+        function.insert(3.0, 9.0);
+        List<Double> visited = new ArrayList<>();
+        function.forEachPoint((x, y) -> {
+            visited.add(x);
+            visited.add(y);
+        });
+        assertEquals(List.of(0.0, 0.0, 1.0, 1.0, 2.0, 4.0, 3.0, 9.0), visited);
+    }
+
+    @Test
+    void testCopyValues() {
+        ArrayTabulatedFunction function = new ArrayTabulatedFunction(new SqrFunction(), 0.0, 4.0, 5);
+        double[] target = new double[4];
+        function.copyXValues(1, target, 1, 3);
+        assertArrayEquals(new double[]{0.0, 1.0, 2.0, 3.0}, target, 1e-12);
+        function.copyYValues(2, target, 0, 3);
+        assertArrayEquals(new double[]{4.0, 9.0, 16.0, 3.0}, target, 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> function.copyYValues(3, target, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> function.copyXValues(-1, target, 0, 1));
+
+        DoubleBuffer buffer = DoubleBuffer.allocate(6);
+        buffer.put(-1.0);
+        function.copyYValues(0, buffer, 5);
+        assertEquals(6, buffer.position());
+        assertArrayEquals(new double[]{-1.0, 0.0, 1.0, 4.0, 9.0, 16.0}, buffer.array(), 1e-12);
+
+        DoubleBuffer direct = ByteBuffer.allocateDirect(5 * Double.BYTES).asDoubleBuffer();
+        function.copyXValues(0, direct, 5);
+        assertEquals(4.0, direct.get(4), 1e-12);
+        assertThrows(BufferOverflowException.class, () -> function.copyXValues(0, DoubleBuffer.allocate(2), 3));
+    }
+
+    @Test
+    void testWrapDoesNotCopy() {
+        double[] xValues = {0.0, 1.0, 2.0};
+        double[] yValues = {0.0, 1.0, 4.0};
+        ArrayTabulatedFunction function = ArrayTabulatedFunction.wrap(xValues, yValues);
+        yValues[1] = 7.0;
+        assertEquals(7.0, function.getY(1), 1e-12);
+        assertThrows(ArrayIsNotSortedException.class, () -> ArrayTabulatedFunction.wrap(new double[]{1.0, 0.0}, new double[]{0.0, 0.0}));
+    }
 }
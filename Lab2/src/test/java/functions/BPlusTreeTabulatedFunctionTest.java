@@ -0,0 +1,239 @@
+package functions;
+
+import exceptions.ArrayIsNotSortedException;
+import exceptions.DifferentLengthOfArraysException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BPlusTreeTabulatedFunctionTest {
+
+    private static void assertSameAs(TreeMap<Double, Double> expected, BPlusTreeTabulatedFunction function) {
+        assertEquals(expected.size(), function.getCount());
+        int i = 0;
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getKey(), function.getX(i), 1e-12);
+            assertEquals(entry.getValue(), function.getY(i), 1e-12);
+            assertEquals(i, function.indexOfX(entry.getKey()));
+            i++;
+        }
+        i = 0;
+        for (Point point : function) {
+            assertEquals(function.getX(i), point.x, 1e-12);
+            i++;
+        }
+        assertEquals(expected.size(), i);
+        assertEquals(expected.firstKey(), function.leftBound(), 1e-12);
+        assertEquals(expected.lastKey(), function.rightBound(), 1e-12);
+    }
+
+    @Test
+    void testGettersAndSetters() {
+        double[] arrX = {0.0, 1.0, 2.0};
+        double[] arrY = {0.0, 1.0, 4.0};
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(arrX, arrY);
+        assertEquals(3, function.getCount());
+        assertEquals(1.0, function.getX(1), 1e-12);
+        assertEquals(4.0, function.getY(2), 1e-12);
+
+        function.setY(2, 5.0);
+        assertEquals(5.0, function.getY(2), 1e-12);
+
+        assertEquals(1, function.indexOfX(1.0));
+        assertEquals(1, function.indexOfX(1.0 + 1e-13));
+        assertEquals(-1, function.indexOfX(1.5));
+        assertEquals(2, function.indexOfY(5.0));
+        assertEquals(-1, function.indexOfY(7.0));
+
+        assertThrows(IllegalArgumentException.class, () -> function.getX(3));
+        assertThrows(IllegalArgumentException.class, () -> function.setY(-1, 0.0));
+    }
+
+    @Test
+    void testConstructorValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTreeTabulatedFunction(new double[]{1.0}, new double[]{1.0}));
+        assertThrows(DifferentLengthOfArraysException.class, () -> new BPlusTreeTabulatedFunction(new double[]{1.0, 2.0}, new double[]{1.0}));
+        assertThrows(ArrayIsNotSortedException.class, () -> new BPlusTreeTabulatedFunction(new double[]{2.0, 1.0}, new double[]{1.0, 2.0}));
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTreeTabulatedFunction(new SqrFunction(), 0.0, 1.0, 1));
+    }
+
+    @Test
+    void testApply() {
+        double[] arrX = {0.0, 1.0, 2.0};
+        double[] arrY = {0.0, 1.0, 4.0};
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(arrX, arrY);
+        assertEquals(-1.0, function.apply(-1.0), 1e-12);
+        assertEquals(7.0, function.apply(3.0), 1e-12);
+        assertEquals(2.5, function.apply(1.5), 1e-12);
+        assertEquals(0.0, function.apply(0.0), 1e-12);
+        assertEquals(4.0, function.apply(2.0), 1e-12);
+    }
+
+    @Test
+    void testMatchesArrayTabulatedFunction() {
+        SqrFunction sqr = new SqrFunction();
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(sqr, 2.0, -3.0, 1001);
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(sqr, 2.0, -3.0, 1001);
+        assertTrue(function.isUniform());
+        for (double x = -4.0; x <= 3.0; x += 0.0137) {
+            assertEquals(expected.apply(x), function.apply(x), 1e-12);
+        }
+        for (int i = 0; i < 1001; i += 7) {
+            assertEquals(expected.getX(i), function.getX(i), 1e-12);
+            assertEquals(expected.apply(expected.getX(i)), function.apply(function.getX(i)), 1e-12);
+            assertEquals(expected.floorIndexOfX(expected.getX(i) + 1e-3), function.floorIndexOfX(function.getX(i) + 1e-3));
+        }
+        assertEquals(1001, function.floorIndexOfX(2.5));
+        assertThrows(IllegalArgumentException.class, () -> function.floorIndexOfX(-3.5));
+    }
+
+    @Test
+    void testRandomInsertAndRemove() {
+        Random random = new Random(42);
+        TreeMap<Double, Double> expected = new TreeMap<>();
+        expected.put(0.0, 0.0);
+        expected.put(1.0, 1.0);
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0});
+
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextInt(20000) / 10.0;
+            double y = random.nextDouble();
+            expected.put(x, y);
+            function.insert(x, y);
+        }
+        assertSameAs(expected, function);
+        assertFalse(function.isUniform());
+
+        for (int i = 0; i < 4000; i++) {
+            int index = random.nextInt(function.getCount());
+            double x = function.getX(index);
+            function.remove(index);
+            expected.remove(x);
+        }
+        assertSameAs(expected, function);
+
+        for (int i = 0; i < 3000; i++) {
+            double x = random.nextInt(20000) / 10.0 + 0.05;
+            expected.put(x, x);
+            function.insert(x, x);
+        }
+        assertSameAs(expected, function);
+
+        for (double x = -1.0; x < 2001.0; x += 0.37) {
+            Double floor = expected.floorKey(x);
+            Double ceiling = expected.ceilingKey(x);
+            if (floor != null && ceiling != null && !floor.equals(ceiling)) {
+                double leftY = expected.get(floor);
+                double rightY = expected.get(ceiling);
+                assertEquals(leftY + (rightY - leftY) * (x - floor) / (ceiling - floor), function.apply(x), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testRemoveAll() {
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(new SqrFunction(), 0.0, 999.0, 1000);
+        for (int i = 0; i < 998; i++) {
+            function.remove(i % 2 == 0 ? 0 : function.getCount() - 1);
+        }
+        assertEquals(2, function.getCount());
+        assertEquals(499.0, function.leftBound(), 1e-12);
+        assertEquals(500.0, function.rightBound(), 1e-12);
+        assertEquals(499.5 * 499.5 + 0.25, function.apply(499.5), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> function.remove(2));
+    }
+
+    @Test
+    void testInsertExistingUpdatesY() {
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(new SqrFunction(), 0.0, 10.0, 11);
+        function.insert(5.0, -1.0);
+        assertEquals(11, function.getCount());
+        assertEquals(-1.0, function.getY(5), 1e-12);
+        assertTrue(function.isUniform());
+
+        function.insert(-1.0, 1.0);
+        assertEquals(12, function.getCount());
+        assertEquals(-1.0, function.leftBound(), 1e-12);
+        assertFalse(function.isUniform());
+    }
+
+    @Test
+    void testRemoveIf() {
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(new IdentityFunction(), 0.0, 999.0, 1000);
+        assertEquals(500, function.removeIf((x, y) -> ((int) x) % 2 == 1));
+        assertEquals(500, function.getCount());
+        assertEquals(998.0, function.getX(499), 1e-12);
+        assertEquals(3.0, function.apply(3.0), 1e-12);
+
+        function.removeRange(100, 400);
+        assertEquals(200, function.getCount());
+        assertEquals(198.0, function.getX(99), 1e-12);
+        assertEquals(800.0, function.getX(100), 1e-12);
+    }
+
+    @Test
+    void testIteratorThrowsAtEnd() {
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(new double[]{0.0, 1.0}, new double[]{2.0, 3.0});
+        Iterator<Point> iterator = function.iterator();
+        assertEquals(2.0, iterator.next().y, 1e-12);
+        assertEquals(3.0, iterator.next().y, 1e-12);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(new SqrFunction(), 0.0, 10.0, 500);
+        function.insert(10.5, 1.0);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(function);
+        }
+        BPlusTreeTabulatedFunction restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (BPlusTreeTabulatedFunction) in.readObject();
+        }
+        assertEquals(501, restored.getCount());
+        for (int i = 0; i < 501; i++) {
+            assertEquals(function.getX(i), restored.getX(i), 1e-12);
+            assertEquals(function.getY(i), restored.getY(i), 1e-12);
+        }
+        restored.insert(11.0, 2.0);
+        assertEquals(11.0, restored.rightBound(), 1e-12);
+    }
+
+    @Test
+    void testForEachPoint() {
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(new IdentityFunction(), 0.0, 999.0, 1000);
+        double[] sum = {0.0};
+        int[] visited = {0};
+        function.forEachPoint((x, y) -> {
+            assertEquals(visited[0], x, 1e-12);
+            sum[0] += y;
+            visited[0]++;
+        });
+        assertEquals(1000, visited[0]);
+        assertEquals(499500.0, sum[0], 1e-9);
+    }
+
+    @Test
+    void testCopyValues() {
+        BPlusTreeTabulatedFunction function = new BPlusTreeTabulatedFunction(new IdentityFunction(), 0.0, 999.0, 1000);
+        double[] target = new double[500];
+        function.copyXValues(250, target, 0, 500);
+        function.copyYValues(250, target, 0, 500);
+        for (int i = 0; i < 500; i++) {
+            assertEquals(250.0 + i, target[i], 1e-12);
+        }
+        assertThrows(IllegalArgumentException.class, () -> function.copyXValues(600, target, 0, 500));
+    }
+}
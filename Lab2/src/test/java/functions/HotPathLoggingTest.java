@@ -0,0 +1,51 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotPathLoggingTest {
+
+    @Test
+    void testCountAndReset() {
+        HotPathLogging.reset();
+        HotPathLogging.count(HotPathLogging.Counter.WRITES);
+        HotPathLogging.count(HotPathLogging.Counter.WRITES);
+        HotPathLogging.count(HotPathLogging.Counter.TRAVERSALS);
+
+        Map<HotPathLogging.Counter, Long> snapshot = HotPathLogging.snapshot();
+        assertEquals(2L, snapshot.get(HotPathLogging.Counter.WRITES));
+        assertEquals(1L, snapshot.get(HotPathLogging.Counter.TRAVERSALS));
+        assertEquals(HotPathLogging.Counter.values().length, snapshot.size());
+
+        HotPathLogging.reset();
+        assertEquals(0L, HotPathLogging.get(HotPathLogging.Counter.WRITES));
+    }
+
+    // Тест запускается дважды: в обычном режиме и в тихом (см. pom.xml, quiet-hot-path)
+    @Test
+    void testModeFollowsProperty() {
+        assertEquals(Boolean.getBoolean("functions.quietHotPath"), HotPathLogging.QUIET);
+    }
+
+    @Test
+    void testEvaluationCountersFollowMode() {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 4, 9});
+        HotPathLogging.reset();
+
+        function.apply(0);
+        function.apply(2);
+        function.apply(2.5);
+        function.setY(0, 5);
+
+        // в обычном режиме счётчики не ведутся, в тихом заменяют сообщения
+        long expected = HotPathLogging.QUIET ? 1 : 0;
+        assertEquals(3 * expected, HotPathLogging.get(HotPathLogging.Counter.EVALUATIONS));
+        assertEquals(expected, HotPathLogging.get(HotPathLogging.Counter.EXTRAPOLATIONS));
+        assertEquals(expected, HotPathLogging.get(HotPathLogging.Counter.EXACT_HITS));
+        assertEquals(expected, HotPathLogging.get(HotPathLogging.Counter.INTERPOLATIONS));
+        assertEquals(expected, HotPathLogging.get(HotPathLogging.Counter.WRITES));
+    }
+}
@@ -4,6 +4,12 @@ import exceptions.ArrayIsNotSortedException;
 import exceptions.DifferentLengthOfArraysException;
 import exceptions.InterpolationException;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListTabulatedFunctionTest {
@@ -596,4 +602,211 @@ class LinkedListTabulatedFunctionTest {
         assertEquals(3, count1);
         assertEquals(3, count2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUniformGridLookup() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new SqrFunction(), 1.0, 0.0, 11);
+        assertTrue(function.isUniform());
+
+        assertEquals(3, function.indexOfX(0.3));
+        assertEquals(-1, function.indexOfX(0.35));
+        assertEquals(3, function.floorIndexOfX(0.35));
+        assertEquals(3, function.floorIndexOfX(function.getX(3)));
+        assertEquals(10, function.floorIndexOfX(1.0));
+        assertEquals(11, function.floorIndexOfX(1.5));
+        assertEquals(0.125, function.apply(0.35), 1e-12);
+
+        function.remove(0);
+        assertFalse(function.isUniform());
+        assertEquals(2, function.indexOfX(0.3));
+        assertEquals(0.125, function.apply(0.35), 1e-12);
+    }
+
+    @Test
+    void testIndexedAccessAfterInsertAndRemove() {
+        LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(new UnitFunction(), 0.0, 999.0, 1000);
+        List<Double> expectedX = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expectedX.add((double) i);
+        }
+
+        Random random = new Random(7);
+        for (int step = 0; step < 2000; step++) {
+            if (random.nextBoolean() && expectedX.size() > 2) {
+                int index = random.nextInt(expectedX.size());
+                list.remove(index);
+                expectedX.remove(index);
+            }
+            else {
+                double x = random.nextDouble() * 1200.0 - 100.0;
+                list.insert(x, x);
+                int position = 0;
+                while (position < expectedX.size() && expectedX.get(position) < x) {
+                    position++;
+                }
+                expectedX.add(position, x);
+            }
+        }
+
+        assertEquals(expectedX.size(), list.getCount());
+        for (int i = 0; i < expectedX.size(); i++) {
+            assertEquals(expectedX.get(i), list.getX(i), 1e-12);
+        }
+        for (int i = expectedX.size() - 1; i >= 0; i -= 7) {
+            list.setY(i, -i);
+            assertEquals(-i, list.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    void testSequentialAccessAcrossInsertAndRemove() {
+        double[] xValues = new double[200];
+        double[] yValues = new double[200];
+        for (int i = 0; i < 200; i++) {
+            xValues[i] = i * i * 0.01;
+            yValues[i] = i;
+        }
+        LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(xValues, yValues);
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(xValues, yValues);
+
+        for (double x = -1.0; x < 400.0; x += 0.37) {
+            assertEquals(expected.apply(x), list.apply(x), 1e-9);
+        }
+
+        list.getY(100);
+        list.insert(0.005, 0.5);
+        expected.insert(0.005, 0.5);
+        list.remove(50);
+        expected.remove(50);
+        list.getY(120);
+        list.remove(120);
+        expected.remove(120);
+
+        for (int i = 0; i < expected.getCount(); i++) {
+            list.setY(i, 2 * list.getY(i));
+            assertEquals(expected.getX(i), list.getX(i), 1e-12);
+            assertEquals(2 * expected.getY(i), list.getY(i), 1e-12);
+        }
+        for (double x = 400.0; x > -1.0; x -= 0.37) {
+            assertEquals(expected.indexOfX(x), list.indexOfX(x));
+            assertEquals(2 * expected.apply(x), list.apply(x), 1e-9);
+        }
+    }
+
+    @Test
+    void testInsertAll() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new double[]{1.0, 3.0, 5.0}, new double[]{10.0, 30.0, 50.0});
+
+        function.insertAll(new double[]{0.0, 2.0, 3.0, 4.0, 6.0, 7.0}, new double[]{0.5, 20.0, 33.0, 40.0, 60.0, 70.0});
+
+        double[] expectedX = {0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0};
+        double[] expectedY = {0.5, 10.0, 20.0, 33.0, 40.0, 50.0, 60.0, 70.0};
+        assertEquals(expectedX.length, function.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], function.getX(i), 1e-12);
+            assertEquals(expectedY[i], function.getY(i), 1e-12);
+        }
+        assertEquals(36.5, function.apply(3.5), 1e-12);
+
+        assertThrows(ArrayIsNotSortedException.class, () -> function.insertAll(new double[]{2.0, 1.0}, new double[]{0.0, 0.0}));
+        assertThrows(DifferentLengthOfArraysException.class, () -> function.insertAll(new double[]{8.0}, new double[]{0.0, 0.0}));
+    }
+
+    @Test
+    void testRemoveRange() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new IdentityFunction(), 0.0, 9.0, 10);
+
+        function.removeRange(8, 10);
+        assertTrue(function.isUniform());
+        assertEquals(8, function.getCount());
+
+        function.removeRange(0, 3);
+        assertEquals(5, function.getCount());
+        assertEquals(3.0, function.leftBound(), 1e-12);
+        assertEquals(7.0, function.rightBound(), 1e-12);
+
+        function.removeRange(1, 3);
+        double[] expectedX = {3.0, 6.0, 7.0};
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], function.getX(i), 1e-12);
+        }
+        assertEquals(4.5, function.apply(4.5), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> function.removeRange(0, 4));
+    }
+
+    @Test
+    void testRemoveIf() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new IdentityFunction(), 0.0, 9.0, 10);
+
+        int removed = function.removeIf((x, y) -> ((int) x) % 3 == 0);
+
+        assertEquals(4, removed);
+        double[] expectedX = {1.0, 2.0, 4.0, 5.0, 7.0, 8.0};
+        assertEquals(expectedX.length, function.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], function.getX(i), 1e-12);
+        }
+        assertEquals(3.0, function.apply(3.0), 1e-12);
+        assertEquals(0, function.removeIf((x, y) -> y > 100));
+    }
+
+    @Test
+    void testForEachPoint() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new SqrFunction(), 0.0, 3.0, 4);
+        List<Double> visited = new ArrayList<>();
+        function.forEachPoint((x, y) -> {
+            visited.add(x);
+            visited.add(y);
+        });
+        assertEquals(List.of(0.0, 0.0, 1.0, 1.0, 2.0, 4.0, 3.0, 9.0), visited);
+    }
+
+    @Test
+    void testCopyValues() {
+        LinkedListTabulatedFunction function = new LinkedListTabulatedFunction(new SqrFunction(), 0.0, 4.0, 5);
+        double[] target = new double[4];
+        function.copyXValues(1, target, 1, 3);
+        assertArrayEquals(new double[]{0.0, 1.0, 2.0, 3.0}, target, 1e-12);
+        function.copyYValues(2, target, 0, 3);
+        assertArrayEquals(new double[]{4.0, 9.0, 16.0, 3.0}, target, 1e-12);
+        function.copyYValues(5, target, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> function.copyYValues(3, target, 0, 3));
+    }
+
+    @Test
+    void testConcurrentReadersWithoutWriter() throws InterruptedException {
+        double[] xValues = new double[2000];
+        double[] yValues = new double[2000];
+        for (int i = 0; i < xValues.length; i++) {
+            xValues[i] = i * 0.5;
+            yValues[i] = i;
+        }
+        // не равномерная сетка: поиск идёт через курсор и индекс, а не арифметически
+        xValues[1] = 0.25;
+        LinkedListTabulatedFunction list = new LinkedListTabulatedFunction(xValues, yValues);
+        AtomicInteger failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int shift = t * 497;
+            threads.add(new Thread(() -> {
+                for (int round = 0; round < 3; round++) {
+                    for (int i = 0; i < xValues.length; i++) {
+                        int index = (i + shift) % xValues.length;
+                        if (list.getX(index) != xValues[index] || list.indexOfX(xValues[index]) != index) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, failures.get());
+    }
+}
@@ -0,0 +1,107 @@
+package functions;
+
+import io.FunctionsIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedTabulatedFunctionTest {
+    @TempDir
+    Path tempDir;
+
+    private Path write(TabulatedFunction function) throws IOException {
+        Path path = tempDir.resolve("function.bin");
+        try (BufferedOutputStream stream = new BufferedOutputStream(new FileOutputStream(path.toFile()))) {
+            FunctionsIO.writeTabulatedFunction(stream, function);
+        }
+        return path;
+    }
+
+    @Test
+    void testMatchesWrittenFunction() throws IOException {
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(new SqrFunction(), -2.0, 3.0, 51);
+        try (MappedTabulatedFunction function = FunctionsIO.mapTabulatedFunction(write(expected))) {
+            assertEquals(expected.getCount(), function.getCount());
+            for (int i = 0; i < expected.getCount(); i++) {
+                assertEquals(expected.getX(i), function.getX(i), 0.0);
+                assertEquals(expected.getY(i), function.getY(i), 0.0);
+            }
+            for (double x = -3.0; x < 4.0; x += 0.017) {
+                assertEquals(expected.apply(x), function.apply(x), 1e-9);
+            }
+            assertEquals(10, function.indexOfX(expected.getX(10)));
+            assertEquals(-1, function.indexOfX(0.05));
+            assertEquals(4, function.indexOfY(expected.getY(4)));
+            assertEquals(-2.0, function.leftBound(), 1e-12);
+            assertEquals(3.0, function.rightBound(), 1e-12);
+        }
+    }
+
+    @Test
+    void testMapsColumnFormat() throws IOException {
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(new SqrFunction(), -2.0, 3.0, 51);
+        Path path = tempDir.resolve("function.v2.bin");
+        FunctionsIO.writeTabulatedFunction(path, expected);
+        try (MappedTabulatedFunction function = FunctionsIO.mapTabulatedFunction(path)) {
+            assertEquals(expected.getCount(), function.getCount());
+            for (int i = 0; i < expected.getCount(); i++) {
+                assertEquals(expected.getX(i), function.getX(i), 0.0);
+                assertEquals(expected.getY(i), function.getY(i), 0.0);
+            }
+            for (double x = -3.0; x < 4.0; x += 0.017) {
+                assertEquals(expected.apply(x), function.apply(x), 1e-9);
+            }
+            assertEquals(4, function.indexOfY(expected.getY(4)));
+        }
+    }
+
+    @Test
+    void testTruncatedColumnFile() throws IOException {
+        Path path = tempDir.resolve("function.v2.bin");
+        FunctionsIO.writeTabulatedFunction(path, new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{0.0, 1.0, 4.0}));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 8));
+        IOException e = assertThrows(IOException.class, () -> FunctionsIO.mapTabulatedFunction(path));
+        assertTrue(e.getMessage().contains("point count 3"));
+    }
+
+    @Test
+    void testIterator() throws IOException {
+        double[] xValues = {1, 2, 3, 4};
+        double[] yValues = {10, 20, 30, 40};
+        try (MappedTabulatedFunction function = FunctionsIO.mapTabulatedFunction(write(new ArrayTabulatedFunction(xValues, yValues)))) {
+            int i = 0;
+            for (Point point : function) {
+                assertEquals(xValues[i], point.x, 1e-12);
+                assertEquals(yValues[i], point.y, 1e-12);
+                i++;
+            }
+            assertEquals(xValues.length, i);
+        }
+    }
+
+    @Test
+    void testReadOnly() throws IOException {
+        try (MappedTabulatedFunction function = FunctionsIO.mapTabulatedFunction(
+                write(new ArrayTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0})))) {
+            assertThrows(UnsupportedOperationException.class, () -> function.setY(0, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> function.getX(2));
+        }
+    }
+
+    @Test
+    void testTruncatedFile() throws IOException {
+        Path path = write(new ArrayTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{0.0, 1.0, 4.0}));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> FunctionsIO.mapTabulatedFunction(path));
+    }
+}
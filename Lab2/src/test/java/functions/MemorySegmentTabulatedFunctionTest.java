@@ -0,0 +1,136 @@
+package functions;
+
+import exceptions.ArrayIsNotSortedException;
+import exceptions.DifferentLengthOfArraysException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.foreign.Arena;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemorySegmentTabulatedFunctionTest {
+
+    @Test
+    void testGettersAndSetters() {
+        double[] arrX = {0.0, 1.0, 2.0};
+        double[] arrY = {0.0, 1.0, 4.0};
+        try (MemorySegmentTabulatedFunction function = new MemorySegmentTabulatedFunction(arrX, arrY)) {
+            assertEquals(3, function.getCount());
+            assertEquals(3L, function.size());
+            assertEquals(1.0, function.getX(1), 1e-12);
+            assertEquals(4.0, function.getY(2), 1e-12);
+
+            function.setY(2, 5.0);
+            assertEquals(5.0, function.getY(2), 1e-12);
+            assertEquals(5.0, function.getY(2L), 1e-12);
+
+            assertEquals(1, function.indexOfX(1.0));
+            assertEquals(1, function.indexOfX(1.0 + 1e-13));
+            assertEquals(-1, function.indexOfX(1.5));
+            assertEquals(2, function.indexOfY(5.0));
+            assertEquals(-1, function.indexOfY(7.0));
+
+            assertEquals(0.0, function.leftBound(), 1e-12);
+            assertEquals(2.0, function.rightBound(), 1e-12);
+        }
+    }
+
+    @Test
+    void testApply() {
+        double[] arrX = {0.0, 1.0, 2.0};
+        double[] arrY = {0.0, 1.0, 4.0};
+        try (MemorySegmentTabulatedFunction function = new MemorySegmentTabulatedFunction(arrX, arrY)) {
+            assertEquals(-1.0, function.apply(-1.0), 1e-12);
+            assertEquals(7.0, function.apply(3.0), 1e-12);
+            assertEquals(2.5, function.apply(1.5), 1e-12);
+            assertEquals(0.0, function.apply(0.0), 1e-12);
+            assertEquals(4.0, function.apply(2.0), 1e-12);
+        }
+    }
+
+    @Test
+    void testMatchesArrayTabulatedFunction() {
+        SqrFunction sqr = new SqrFunction();
+        ArrayTabulatedFunction expected = new ArrayTabulatedFunction(sqr, 2.0, -3.0, 101);
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegmentTabulatedFunction function = new MemorySegmentTabulatedFunction(arena, sqr, 2.0, -3.0, 101);
+            for (int i = 0; i < expected.getCount(); i++) {
+                assertEquals(expected.getX(i), function.getX(i), 1e-12);
+                assertEquals(expected.getY(i), function.getY(i), 1e-12);
+            }
+            for (double x = -4.0; x < 3.0; x += 0.013) {
+                assertEquals(expected.apply(x), function.apply(x), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testIterator() {
+        double[] xValues = {1, 2, 3, 4};
+        double[] yValues = {10, 20, 30, 40};
+        try (MemorySegmentTabulatedFunction function = new MemorySegmentTabulatedFunction(xValues, yValues)) {
+            int i = 0;
+            for (Point point : function) {
+                assertEquals(xValues[i], point.x, 1e-9);
+                assertEquals(yValues[i], point.y, 1e-9);
+                i++;
+            }
+            assertEquals(xValues.length, i);
+
+            Iterator<Point> iterator = function.iterator();
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Test
+    void testConstructorExceptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MemorySegmentTabulatedFunction(new double[]{1.0}, new double[]{1.0}));
+        assertThrows(DifferentLengthOfArraysException.class,
+                () -> new MemorySegmentTabulatedFunction(new double[]{1.0, 2.0, 3.0}, new double[]{1.0, 2.0}));
+        assertThrows(ArrayIsNotSortedException.class,
+                () -> new MemorySegmentTabulatedFunction(new double[]{1.0, 3.0, 2.0}, new double[]{1.0, 2.0, 3.0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MemorySegmentTabulatedFunction(new SqrFunction(), 0.0, 1.0, 1));
+    }
+
+    @Test
+    void testInvalidIndex() {
+        try (MemorySegmentTabulatedFunction function = new MemorySegmentTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0})) {
+            assertThrows(IllegalArgumentException.class, () -> function.getX(-1));
+            assertThrows(IllegalArgumentException.class, () -> function.getY(2));
+            assertThrows(IllegalArgumentException.class, () -> function.setY(2L, 1.0));
+        }
+    }
+
+    @Test
+    void testClose() {
+        MemorySegmentTabulatedFunction function = new MemorySegmentTabulatedFunction(new double[]{0.0, 1.0}, new double[]{0.0, 1.0});
+        function.close();
+        assertThrows(IllegalStateException.class, () -> function.getY(0));
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MemorySegmentTabulatedFunction function = new MemorySegmentTabulatedFunction(new double[]{0.0, 1.0, 2.0}, new double[]{0.0, 1.0, 4.0});
+             ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(function);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+             MemorySegmentTabulatedFunction restored = (MemorySegmentTabulatedFunction) in.readObject()) {
+            assertEquals(3, restored.getCount());
+            assertEquals(4.0, restored.getY(2), 1e-12);
+            assertEquals(2.5, restored.apply(1.5), 1e-12);
+        }
+    }
+}
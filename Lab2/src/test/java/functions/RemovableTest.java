@@ -0,0 +1,44 @@
+package functions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RemovableTest {
+    // Обёртка без собственного хранилища: removeIf через Removable.removeEachIf
+    private static class DelegatingFunction implements TabulatedFunction, Removable {
+        private final ArrayTabulatedFunction function;
+
+        DelegatingFunction(ArrayTabulatedFunction function) {
+            this.function = function;
+        }
+
+        @Override public int getCount() { return function.getCount(); }
+        @Override public double getX(int index) { return function.getX(index); }
+        @Override public double getY(int index) { return function.getY(index); }
+        @Override public void setY(int index, double value) { function.setY(index, value); }
+        @Override public int indexOfX(double x) { return function.indexOfX(x); }
+        @Override public int indexOfY(double y) { return function.indexOfY(y); }
+        @Override public double leftBound() { return function.leftBound(); }
+        @Override public double rightBound() { return function.rightBound(); }
+        @Override public double apply(double x) { return function.apply(x); }
+        @Override public Iterator<Point> iterator() { return function.iterator(); }
+        @Override public void remove(int index) { function.remove(index); }
+        @Override public int removeIf(PointPredicate predicate) { return Removable.removeEachIf(this, predicate); }
+    }
+
+    @Test
+    void testRemoveEachIf() {
+        DelegatingFunction function = new DelegatingFunction(new ArrayTabulatedFunction(new SqrFunction(), 0.0, 5.0, 6));
+
+        int removed = function.removeIf((x, y) -> x == 1.0 || y > 10.0);
+
+        assertEquals(3, removed);
+        assertEquals(3, function.getCount());
+        assertArrayEquals(new double[]{0.0, 2.0, 3.0}, new double[]{function.getX(0), function.getX(1), function.getX(2)}, 1e-12);
+        assertEquals(9.0, function.getY(2), 1e-12);
+        assertEquals(0, function.removeIf((x, y) -> false));
+    }
+}
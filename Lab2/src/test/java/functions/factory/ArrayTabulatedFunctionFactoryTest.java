@@ -47,4 +47,19 @@ class ArrayTabulatedFunctionFactoryTest {
         assertEquals(0.0, function.leftBound(), 1e-12);
         assertEquals(1.0, function.rightBound(), 1e-12);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testWrap() {
+        ArrayTabulatedFunctionFactory factory = new ArrayTabulatedFunctionFactory();
+
+        double[] xValues = {0.0, 0.5, 1.0};
+        double[] yValues = {0.0, 0.25, 1.0};
+
+        TabulatedFunction function = factory.wrap(xValues, yValues);
+
+        // Массивы не копируются
+        yValues[1] = 0.5;
+        assertTrue(function instanceof ArrayTabulatedFunction);
+        assertEquals(0.5, function.getY(1), 1e-12);
+    }
+}
@@ -0,0 +1,28 @@
+package functions.factory;
+
+import functions.BPlusTreeTabulatedFunction;
+import functions.TabulatedFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BPlusTreeTabulatedFunctionFactoryTest {
+
+    @Test
+    void testCreate() {
+        BPlusTreeTabulatedFunctionFactory factory = new BPlusTreeTabulatedFunctionFactory();
+
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {10.0, 20.0, 30.0};
+
+        TabulatedFunction function = factory.create(xValues, yValues);
+
+        assertTrue(function instanceof BPlusTreeTabulatedFunction);
+
+        assertEquals(3, function.getCount());
+        assertEquals(1.0, function.getX(0), 1e-12);
+        assertEquals(3.0, function.getX(2), 1e-12);
+        assertEquals(10.0, function.getY(0), 1e-12);
+        assertEquals(30.0, function.getY(2), 1e-12);
+    }
+}
@@ -0,0 +1,43 @@
+package functions.factory;
+
+import functions.MemorySegmentTabulatedFunction;
+import functions.TabulatedFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemorySegmentTabulatedFunctionFactoryTest {
+
+    @Test
+    void testCreate() {
+        MemorySegmentTabulatedFunctionFactory factory = new MemorySegmentTabulatedFunctionFactory();
+
+        double[] xValues = {1.0, 2.0, 3.0};
+        double[] yValues = {10.0, 20.0, 30.0};
+
+        TabulatedFunction function = factory.create(xValues, yValues);
+
+        assertTrue(function instanceof MemorySegmentTabulatedFunction);
+
+        assertEquals(3, function.getCount());
+        assertEquals(1.0, function.getX(0), 1e-12);
+        assertEquals(3.0, function.getX(2), 1e-12);
+        assertEquals(10.0, function.getY(0), 1e-12);
+        assertEquals(30.0, function.getY(2), 1e-12);
+        ((MemorySegmentTabulatedFunction) function).close();
+    }
+
+    @Test
+    void testCreatedFunctionNeedsNoClose() throws InterruptedException {
+        TabulatedFunction function = new MemorySegmentTabulatedFunctionFactory().create(new double[]{1.0, 2.0}, new double[]{3.0, 4.0});
+
+        // память принадлежит автоматической Arena: close() её не освобождает,
+        // а функция доступна из других потоков
+        ((MemorySegmentTabulatedFunction) function).close();
+        double[] read = new double[1];
+        Thread reader = new Thread(() -> read[0] = function.getY(1));
+        reader.start();
+        reader.join();
+        assertEquals(4.0, read[0], 1e-12);
+    }
+}
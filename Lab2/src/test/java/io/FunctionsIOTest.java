@@ -0,0 +1,267 @@
+package io;
+
+import functions.ArrayTabulatedFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.Point;
+import functions.TabulatedFunction;
+import functions.factory.ArrayTabulatedFunctionFactory;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import functions.factory.TabulatedFunctionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunctionsIOTest {
+
+    private static TabulatedFunction read(String text) throws IOException {
+        return FunctionsIO.readTabulatedFunction(new BufferedReader(new StringReader(text)), new ArrayTabulatedFunctionFactory());
+    }
+
+    @Test
+    void testReadCommaAndDotDecimals() throws IOException {
+        TabulatedFunction function = read("3\n1,500000 -2,250000\n2.5 3.75\r\n4 1E3\n");
+
+        assertEquals(3, function.getCount());
+        assertEquals(1.5, function.getX(0));
+        assertEquals(-2.25, function.getY(0));
+        assertEquals(2.5, function.getX(1));
+        assertEquals(3.75, function.getY(1));
+        assertEquals(4.0, function.getX(2));
+        assertEquals(1000.0, function.getY(2));
+    }
+
+    @Test
+    void testReadMatchesParseDouble() throws IOException {
+        Random random = new Random(7);
+        int count = 2000;
+        double[] expectedY = new double[count];
+        StringBuilder text = new StringBuilder().append(count).append('\n');
+        for (int i = 0; i < count; i++) {
+            double y = switch (i % 4) {
+                case 0 -> random.nextDouble();
+                case 1 -> (random.nextDouble() - 0.5) * 1e6;
+                case 2 -> random.nextGaussian() * 1e-30;
+                default -> Double.longBitsToDouble(random.nextLong() & 0x7fefffffffffffffL);
+            };
+            String formatted = Double.toString(y);
+            expectedY[i] = Double.parseDouble(formatted);
+            text.append(i).append(' ').append(i % 2 == 0 ? formatted.replace('.', ',') : formatted).append('\n');
+        }
+
+        TabulatedFunction function = read(text.toString());
+
+        for (int i = 0; i < count; i++) {
+            assertEquals((double) i, function.getX(i));
+            assertEquals(expectedY[i], function.getY(i));
+        }
+    }
+
+    @Test
+    void testReadSpecialValuesAndLongMantissa() throws IOException {
+        TabulatedFunction function = read("3\n0 NaN\n1 -Infinity\n2 0.1000000000000000055511151231257827\n");
+
+        assertTrue(Double.isNaN(function.getY(0)));
+        assertEquals(Double.NEGATIVE_INFINITY, function.getY(1));
+        assertEquals(0.1, function.getY(2));
+    }
+
+    @Test
+    void testReaderPositionedAfterFunction() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader("2\n1 2\n3 4\nrest of input\n"));
+
+        TabulatedFunction function = FunctionsIO.readTabulatedFunction(reader, new LinkedListTabulatedFunctionFactory());
+
+        assertInstanceOf(LinkedListTabulatedFunction.class, function);
+        assertEquals(4.0, function.getY(1));
+        assertEquals("rest of input", reader.readLine());
+    }
+
+    @Test
+    void testReadInvalidInput() {
+        assertThrows(IOException.class, () -> read(""));
+        assertThrows(IOException.class, () -> read("x\n"));
+        assertThrows(IOException.class, () -> read("2\n1 2\n"));
+        assertThrows(IOException.class, () -> read("2\n1 2 3\n4 5\n"));
+        assertThrows(IOException.class, () -> read("2\n1 abc\n4 5\n"));
+        assertThrows(IOException.class, () -> read("2\n1 2e\n4 5\n"));
+    }
+
+    @Test
+    void testWriteThenRead() throws IOException {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{-1.25, 0, 2.5}, new double[]{3.5, -4.75, 1e3});
+        StringWriter text = new StringWriter();
+        FunctionsIO.writeTabulatedFunction(new BufferedWriter(text), function);
+
+        TabulatedFunction copy = read(text.toString());
+
+        assertEquals(function.getCount(), copy.getCount());
+        for (int i = 0; i < function.getCount(); i++) {
+            assertEquals(function.getX(i), copy.getX(i));
+            assertEquals(function.getY(i), copy.getY(i));
+        }
+    }
+
+    @Test
+    void testDefaultWriteKeepsPrintfFormat() throws IOException {
+        TabulatedFunction function = new ArrayTabulatedFunction(new double[]{-1.0000005, 0.1, 1e10}, new double[]{Math.PI, -0.0, 2.5e-7});
+        StringWriter expected = new StringWriter();
+        PrintWriter printWriter = new PrintWriter(expected);
+        printWriter.println(function.getCount());
+        for (Point point : function) {
+            printWriter.printf("%f %f%n", point.x, point.y);
+        }
+        printWriter.flush();
+
+        StringWriter text = new StringWriter();
+        FunctionsIO.writeTabulatedFunction(new BufferedWriter(text), function);
+
+        assertEquals(expected.toString(), text.toString());
+    }
+
+    @Test
+    void testShortestRoundTrip() throws IOException {
+        Random random = new Random(11);
+        int count = 5000;
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = random.nextGaussian() * Math.pow(10, random.nextInt(40) - 20);
+            yValues[i] = Double.longBitsToDouble(random.nextLong() & 0xffefffffffffffffL);
+        }
+        Arrays.sort(xValues);
+        TabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+
+        for (char separator : new char[]{'.', ','}) {
+            StringWriter text = new StringWriter();
+            new TabulatedTextWriter(text, TabulatedTextWriter.SHORTEST, separator).write(function);
+            TabulatedFunction copy = read(text.toString());
+            for (int i = 0; i < count; i++) {
+                assertEquals(xValues[i], copy.getX(i));
+                assertEquals(yValues[i], copy.getY(i));
+            }
+        }
+    }
+
+    @Test
+    void testFixedPrecisionMatchesPrintf() throws IOException {
+        double[] xValues = {-1e20, -123.4567891, -0.0, 0.25, 1.0000005, 42, 1e17};
+        double[] yValues = {Math.PI, -Math.E, 1e-9, -1e-9, 0.1, 987654.3210987, 2.5};
+        TabulatedFunction function = new ArrayTabulatedFunction(xValues, yValues);
+        StringBuilder expected = new StringBuilder().append(xValues.length).append(System.lineSeparator());
+        for (int i = 0; i < xValues.length; i++) {
+            expected.append(String.format(Locale.ROOT, "%f %f%n", xValues[i], yValues[i]));
+        }
+
+        StringWriter text = new StringWriter();
+        new TabulatedTextWriter(text, 6, '.').write(function);
+        assertEquals(expected.toString(), text.toString());
+
+        text = new StringWriter();
+        new TabulatedTextWriter(text, 0, ',').write(new ArrayTabulatedFunction(new double[]{1.5, 2.25}, new double[]{-0.5, 7}));
+        assertEquals("2" + System.lineSeparator() + "2 -1" + System.lineSeparator() + "2 7" + System.lineSeparator(), text.toString());
+    }
+
+    @Test
+    void testFixedPrecisionMatchesPrintfRandomized() throws IOException {
+        Random random = new Random(17);
+        int count = 2000;
+        for (int fractionDigits : new int[]{0, 2, 6, 9, 15}) {
+            for (int round = 0; round < 10; round++) {
+                double[] xValues = new double[count];
+                double[] yValues = new double[count];
+                for (int i = 0; i < count; i++) {
+                    xValues[i] = i;
+                    yValues[i] = switch (i % 4) {
+                        case 0 -> random.nextDouble() * Math.pow(10, random.nextInt(30) - 10);
+                        // десятичные половины на разряде округления
+                        case 1 -> (random.nextLong(10_000_000_000L) * 10 + 5) / Math.pow(10, fractionDigits + 1 + random.nextInt(3));
+                        case 2 -> Double.longBitsToDouble(random.nextLong() & 0x7fefffffffffffffL);
+                        default -> random.nextGaussian() * 1e11;
+                    };
+                    if (random.nextBoolean()) {
+                        yValues[i] = -yValues[i];
+                    }
+                }
+                StringWriter text = new StringWriter();
+                new TabulatedTextWriter(text, fractionDigits, '.').write(new ArrayTabulatedFunction(xValues, yValues));
+                String[] lines = text.toString().split(System.lineSeparator());
+                for (int i = 0; i < count; i++) {
+                    String expected = String.format(Locale.ROOT, "%." + fractionDigits + "f", yValues[i]);
+                    assertEquals(expected, lines[i + 1].substring(lines[i + 1].indexOf(' ') + 1), Double.toString(yValues[i]));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testWriterArguments() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new TabulatedTextWriter(new StringWriter(), -2, '.'));
+        assertTrue(e.getMessage().contains("-1 (SHORTEST)"));
+        assertThrows(IllegalArgumentException.class, () -> new TabulatedTextWriter(new StringWriter(), TabulatedTextWriter.MAX_FRACTION_DIGITS + 1, '.'));
+    }
+
+    @Test
+    void testColumnBinaryRoundTrip(@TempDir Path directory) throws IOException {
+        int count = 300_000;
+        double[] xValues = new double[count];
+        double[] yValues = new double[count];
+        for (int i = 0; i < count; i++) {
+            xValues[i] = i * 0.5;
+            yValues[i] = Math.sin(i);
+        }
+        Path file = directory.resolve("function.bin");
+        FunctionsIO.writeTabulatedFunction(file, new ArrayTabulatedFunction(xValues, yValues));
+
+        assertEquals(ColumnBinaryCodec.HEADER_SIZE + count * 16L, Files.size(file));
+        for (TabulatedFunctionFactory factory : new TabulatedFunctionFactory[]{new ArrayTabulatedFunctionFactory(), new LinkedListTabulatedFunctionFactory()}) {
+            TabulatedFunction copy = FunctionsIO.readTabulatedFunction(file, factory);
+            assertEquals(count, copy.getCount());
+            assertEquals(xValues[count - 1], copy.getX(count - 1));
+            assertEquals(yValues[131_073], copy.getY(131_073));
+            assertEquals(yValues[0], copy.getY(0));
+        }
+    }
+
+    @Test
+    void testColumnBinaryReadsVersionOne(@TempDir Path directory) throws IOException {
+        TabulatedFunction function = new LinkedListTabulatedFunction(new double[]{1, 2, 3}, new double[]{-1.5, 0, 2.25});
+        Path file = directory.resolve("v1.bin");
+        try (BufferedOutputStream stream = new BufferedOutputStream(Files.newOutputStream(file))) {
+            FunctionsIO.writeTabulatedFunction(stream, function);
+        }
+
+        TabulatedFunction copy = FunctionsIO.readTabulatedFunction(file, new ArrayTabulatedFunctionFactory());
+
+        assertInstanceOf(ArrayTabulatedFunction.class, copy);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(function.getX(i), copy.getX(i));
+            assertEquals(function.getY(i), copy.getY(i));
+        }
+    }
+
+    @Test
+    void testColumnBinaryInvalidFiles(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("broken.bin");
+        Files.write(file, new byte[]{0, 0});
+        assertThrows(IOException.class, () -> FunctionsIO.readTabulatedFunction(file, new ArrayTabulatedFunctionFactory()));
+
+        FunctionsIO.writeTabulatedFunction(file, new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{3, 4}));
+        byte[] truncated = Arrays.copyOf(Files.readAllBytes(file), ColumnBinaryCodec.HEADER_SIZE + 24);
+        Files.write(file, truncated);
+        assertThrows(IOException.class, () -> FunctionsIO.readTabulatedFunction(file, new ArrayTabulatedFunctionFactory()));
+    }
+}
@@ -0,0 +1,89 @@
+package operations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementwiseKernelsTest {
+    private static final ElementwiseKernels[] KERNELS = {new ScalarKernels(), new VectorKernels(), ElementwiseKernels.preferred()};
+
+    private static double[] random(Random random, int length) {
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = 1 + random.nextDouble() * 10;
+        }
+        return values;
+    }
+
+    @Test
+    void testArithmeticMatchesScalar() {
+        Random random = new Random(3);
+        double[] u = random(random, 1003);
+        double[] v = random(random, 1003);
+        for (ElementwiseKernels kernels : KERNELS) {
+            double[] out = new double[1003];
+            kernels.sum(u, v, out, 3, 1001);
+            assertEquals(0.0, out[2]);
+            assertEquals(0.0, out[1001]);
+            for (int i = 3; i < 1001; i++) {
+                assertEquals(u[i] + v[i], out[i]);
+            }
+            kernels.subtract(u, v, out, 0, 1003);
+            assertEquals(u[1002] - v[1002], out[1002]);
+            kernels.multiply(u, v, out, 0, 1003);
+            assertEquals(u[500] * v[500], out[500]);
+            kernels.divide(u, v, out, 0, 1003);
+            for (int i = 0; i < 1003; i++) {
+                assertEquals(u[i] / v[i], out[i]);
+            }
+        }
+    }
+
+    @Test
+    void testInPlace() {
+        for (ElementwiseKernels kernels : KERNELS) {
+            double[] u = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+            double[] v = {1, 1, 1, 1, 1, 1, 1, 1, 1};
+            kernels.sum(u, v, u, 0, u.length);
+            assertArrayEquals(new double[]{2, 3, 4, 5, 6, 7, 8, 9, 10}, u);
+        }
+    }
+
+    @Test
+    void testDivideByZeroThrows() {
+        for (ElementwiseKernels kernels : KERNELS) {
+            double[] u = new double[37];
+            double[] v = new double[37];
+            Arrays.fill(v, 2.0);
+            v[35] = 0.0;
+            assertDoesNotThrow(() -> kernels.divide(u, v, new double[37], 0, 35));
+            assertThrows(ArithmeticException.class, () -> kernels.divide(u, v, new double[37], 0, 37));
+            v[35] = 2.0;
+            v[9] = 1e-13;
+            assertThrows(ArithmeticException.class, () -> kernels.divide(u, v, new double[37], 0, 37));
+        }
+    }
+
+    @Test
+    void testFirstMismatch() {
+        for (ElementwiseKernels kernels : KERNELS) {
+            double[] a = new double[101];
+            double[] b = new double[101];
+            for (int i = 0; i < 101; i++) {
+                a[i] = i;
+                b[i] = i + 1e-10;
+            }
+            assertEquals(-1, kernels.firstMismatch(a, b, 0, 101, 1e-9));
+            b[70] = 71;
+            b[90] = 0;
+            assertEquals(70, kernels.firstMismatch(a, b, 0, 101, 1e-9));
+            assertEquals(90, kernels.firstMismatch(a, b, 71, 101, 1e-9));
+            assertEquals(-1, kernels.firstMismatch(a, b, 0, 70, 1e-9));
+            b[100] = -1;
+            assertEquals(100, kernels.firstMismatch(a, b, 91, 101, 1e-9));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package operations;
+
+import exceptions.InconsistentFunctionsException;
+import functions.ArrayTabulatedFunction;
+import functions.IdentityFunction;
+import functions.LinkedListTabulatedFunction;
+import functions.SqrFunction;
+import functions.TabulatedFunction;
+import functions.factory.LinkedListTabulatedFunctionFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabulatedExpressionTest {
+    private final TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+
+    @Test
+    void testMatchesChainedOperations() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new SqrFunction(), 1, 10, 1000);
+        TabulatedFunction b = new LinkedListTabulatedFunction(new IdentityFunction(), 1, 10, 1000);
+        TabulatedFunction c = new ArrayTabulatedFunction(new IdentityFunction(), 1, 10, 1000);
+
+        TabulatedFunction expected = service.divide(service.subtract(service.sum(service.multiply(a, b), c), a), b);
+        TabulatedFunction actual = service.expression(a).times(b).plus(c).minus(a).dividedBy(b).materialize();
+
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int i = 0; i < expected.getCount(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i));
+            assertEquals(expected.getY(i), actual.getY(i));
+        }
+    }
+
+    @Test
+    void testNestedExpressionsAndRepeatedSources() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{2, 3, 4});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 1, 2});
+
+        TabulatedExpression square = service.expression(a).times(a);
+        TabulatedFunction result = square.minus(service.expression(b).plus(b)).materialize();
+
+        assertArrayEquals(new double[]{2, 7, 12}, new double[]{result.getY(0), result.getY(1), result.getY(2)});
+        assertEquals(3.0, result.getX(2));
+        // выражения неизменяемы, исходное можно вычислить повторно
+        assertEquals(16.0, square.materialize().getY(2));
+    }
+
+    @Test
+    void testUsesServiceFactory() {
+        TabulatedFunctionOperationService linkedListService = new TabulatedFunctionOperationService(new LinkedListTabulatedFunctionFactory());
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{3, 4});
+
+        TabulatedFunction result = linkedListService.expression(a).plus(a).materialize();
+
+        assertInstanceOf(LinkedListTabulatedFunction.class, result);
+        assertEquals(8.0, result.getY(1));
+        assertInstanceOf(ArrayTabulatedFunction.class, service.expression(a).materialize());
+    }
+
+    @Test
+    void testInconsistentFunctions() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+        TabulatedFunction shorter = new ArrayTabulatedFunction(new double[]{1, 2}, new double[]{1, 2});
+        TabulatedFunction shifted = new ArrayTabulatedFunction(new double[]{1, 2, 4}, new double[]{1, 2, 3});
+
+        assertThrows(InconsistentFunctionsException.class, () -> service.expression(a).plus(shorter).materialize());
+        assertThrows(InconsistentFunctionsException.class, () -> service.expression(a).times(a).minus(shifted).materialize());
+    }
+
+    @Test
+    void testDivideByZero() {
+        TabulatedFunction a = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+        TabulatedFunction b = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{1, 2, 3});
+
+        assertThrows(ArithmeticException.class, () -> service.expression(a).dividedBy(service.expression(a).minus(b)).materialize());
+    }
+}
@@ -3,12 +3,16 @@ package operations;
 import exceptions.InconsistentFunctionsException;
 import functions.ArrayTabulatedFunction;
 import functions.LinkedListTabulatedFunction;
+import functions.IdentityFunction;
 import functions.Point;
+import functions.SqrFunction;
 import functions.TabulatedFunction;
 import functions.factory.ArrayTabulatedFunctionFactory;
 import functions.factory.LinkedListTabulatedFunctionFactory;
 import functions.factory.TabulatedFunctionFactory;
 import org.junit.jupiter.api.Test;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TabulatedFunctionOperationServiceTest {
@@ -360,4 +364,162 @@ class TabulatedFunctionOperationServiceTest {
             assertEquals(y1[i] / y2[i], dividePoints2[i].y, 1e-9);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParallelMatchesSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TabulatedFunctionOperationService parallel =
+                    new TabulatedFunctionOperationService(new ArrayTabulatedFunctionFactory(), pool, 1000);
+            TabulatedFunctionOperationService sequential = new TabulatedFunctionOperationService();
+            TabulatedFunction f = new ArrayTabulatedFunction(new SqrFunction(), 1, 10, 100_000);
+            TabulatedFunction g = new LinkedListTabulatedFunction(new IdentityFunction(), 1, 10, 100_000);
+
+            TabulatedFunction[] expected = {sequential.sum(f, g), sequential.subtract(f, g), sequential.multiply(f, g), sequential.divide(f, g)};
+            TabulatedFunction[] actual = {parallel.sum(f, g), parallel.subtract(f, g), parallel.multiply(f, g), parallel.divide(f, g)};
+            for (int k = 0; k < expected.length; k++) {
+                for (int i = 0; i < 100_000; i += 97) {
+                    assertEquals(expected[k].getX(i), actual[k].getX(i));
+                    assertEquals(expected[k].getY(i), actual[k].getY(i));
+                }
+            }
+            TabulatedFunction perCall = sequential.sum(f, g, true);
+            assertEquals(expected[0].getY(99_999), perCall.getY(99_999));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelFailsOnMismatch() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TabulatedFunctionOperationService parallel =
+                    new TabulatedFunctionOperationService(new ArrayTabulatedFunctionFactory(), pool, 1000);
+            double[] x = new double[50_000];
+            double[] shifted = new double[50_000];
+            double[] y = new double[50_000];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = i;
+                shifted[i] = i < 40_000 ? i : i + 0.5;
+                y[i] = 1;
+            }
+            TabulatedFunction f = new ArrayTabulatedFunction(x, y);
+            TabulatedFunction g = new ArrayTabulatedFunction(shifted, y);
+            assertThrows(InconsistentFunctionsException.class, () -> parallel.sum(f, g));
+
+            y[30_000] = 0;
+            TabulatedFunction zero = new ArrayTabulatedFunction(x, y);
+            assertThrows(ArithmeticException.class, () -> parallel.divide(f, zero));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TabulatedFunctionOperationService(new ArrayTabulatedFunctionFactory(), pool, 0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelChecksWholeGridBeforeOperation() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TabulatedFunctionOperationService parallel =
+                    new TabulatedFunctionOperationService(new ArrayTabulatedFunctionFactory(), pool, 1000);
+            TabulatedFunctionOperationService sequential = new TabulatedFunctionOperationService(new ArrayTabulatedFunctionFactory());
+            // ноль в начале делителя, несовпадение сетки в конце
+            double[] x = new double[50_000];
+            double[] shifted = new double[50_000];
+            double[] y = new double[50_000];
+            double[] divisor = new double[50_000];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = i;
+                shifted[i] = i < 45_000 ? i : i + 0.5;
+                y[i] = 1;
+                divisor[i] = i == 10 ? 0 : 1;
+            }
+            TabulatedFunction f = new ArrayTabulatedFunction(x, y);
+            TabulatedFunction g = new ArrayTabulatedFunction(shifted, divisor);
+            assertThrows(InconsistentFunctionsException.class, () -> sequential.divide(f, g));
+            for (int round = 0; round < 20; round++) {
+                assertThrows(InconsistentFunctionsException.class, () -> parallel.divide(f, g));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testUnionGridMatchesApply() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        TabulatedFunction f = new ArrayTabulatedFunction(new double[]{0, 1, 2, 3}, new double[]{0, 1, 4, 9});
+        TabulatedFunction g = new LinkedListTabulatedFunction(new double[]{0.5, 1, 2.5, 4}, new double[]{1, 2, 3, 5});
+
+        TabulatedFunction result = service.sum(f, g, GridMode.UNION);
+
+        double[] expectedX = {0, 0.5, 1, 2, 2.5, 3, 4};
+        assertEquals(expectedX.length, result.getCount());
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], result.getX(i));
+            assertEquals(f.apply(expectedX[i]) + g.apply(expectedX[i]), result.getY(i), 1e-12);
+        }
+    }
+
+    @Test
+    void testIntersectionGridMatchesApply() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        TabulatedFunction f = new ArrayTabulatedFunction(new SqrFunction(), 0, 10, 101);
+        TabulatedFunction g = new ArrayTabulatedFunction(new IdentityFunction(), 2.05, 15, 37);
+
+        TabulatedFunction result = service.multiply(f, g, GridMode.INTERSECTION);
+
+        assertEquals(2.05, result.leftBound());
+        assertEquals(10.0, result.rightBound(), 1e-12);
+        for (int i = 0; i < result.getCount(); i++) {
+            double x = result.getX(i);
+            assertTrue(i == 0 || x > result.getX(i - 1));
+            assertEquals(f.apply(x) * g.apply(x), result.getY(i), 1e-9);
+        }
+    }
+
+    @Test
+    void testGridModesOnMatchingGrids() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        TabulatedFunction f = new ArrayTabulatedFunction(new SqrFunction(), 1, 5, 9);
+        TabulatedFunction g = new LinkedListTabulatedFunction(new IdentityFunction(), 1, 5, 9);
+
+        TabulatedFunction strict = service.subtract(f, g, GridMode.STRICT);
+        for (GridMode mode : new GridMode[]{GridMode.UNION, GridMode.INTERSECTION}) {
+            TabulatedFunction result = service.subtract(f, g, mode);
+            assertEquals(strict.getCount(), result.getCount());
+            for (int i = 0; i < strict.getCount(); i++) {
+                assertEquals(strict.getY(i), result.getY(i));
+            }
+        }
+    }
+
+    @Test
+    void testGridModeErrors() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        TabulatedFunction f = new ArrayTabulatedFunction(new double[]{0, 1}, new double[]{1, 2});
+        TabulatedFunction g = new ArrayTabulatedFunction(new double[]{1, 2, 3}, new double[]{0, 1, 2});
+
+        assertThrows(InconsistentFunctionsException.class, () -> service.sum(f, g, GridMode.STRICT));
+        assertThrows(InconsistentFunctionsException.class, () -> service.sum(f, g, GridMode.INTERSECTION));
+        assertThrows(ArithmeticException.class, () -> service.divide(f, g, GridMode.UNION));
+        assertEquals(4, service.divide(g, f, GridMode.UNION).getCount());
+    }
+
+    @Test
+    void testUnionGridWithSinglePointFunction() {
+        TabulatedFunctionOperationService service = new TabulatedFunctionOperationService();
+        LinkedListTabulatedFunction single = new LinkedListTabulatedFunction(new double[]{1.5, 2}, new double[]{10, 20});
+        single.remove(1);
+        TabulatedFunction g = new ArrayTabulatedFunction(new double[]{0, 1, 2}, new double[]{0, 1, 4});
+
+        TabulatedFunction result = service.sum(g, single, GridMode.UNION);
+
+        assertArrayEquals(new double[]{0, 1, 1.5, 2}, new double[]{result.getX(0), result.getX(1), result.getX(2), result.getX(3)});
+        assertArrayEquals(new double[]{10, 11, 12.5, 14}, new double[]{result.getY(0), result.getY(1), result.getY(2), result.getY(3)}, 1e-12);
+        assertEquals(4, service.sum(single, g, GridMode.UNION).getCount());
+        assertThrows(InconsistentFunctionsException.class, () -> service.sum(single, g, GridMode.INTERSECTION));
+    }
+}